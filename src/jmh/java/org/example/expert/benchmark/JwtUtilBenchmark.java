@@ -0,0 +1,61 @@
+package org.example.expert.benchmark;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    // 0 이면 claims 캐시를 끈 상태(매 요청 서명 검증)를 측정합니다.
+    @Param({"0", "10000"})
+    private int claimsCacheMaxSize;
+
+    private JwtUtil jwtUtil;
+    private String bearerToken;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        jwtUtil = new JwtUtil();
+        setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(secret));
+        setField(jwtUtil, "claimsCacheMaxSize", claimsCacheMaxSize);
+        jwtUtil.init();
+
+        bearerToken = jwtUtil.createToken(1L, "bench@example.com", UserRole.USER);
+        token = jwtUtil.substringToken(bearerToken);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "bench@example.com", UserRole.USER);
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public String substringToken() {
+        return jwtUtil.substringToken(bearerToken);
+    }
+
+    static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
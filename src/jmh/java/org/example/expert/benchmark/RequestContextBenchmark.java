@@ -0,0 +1,39 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.config.AuthUserArgumentResolver;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+@State(Scope.Benchmark)
+public class RequestContextBenchmark {
+
+    private AuthUserArgumentResolver resolver;
+    private ServletWebRequest webRequest;
+
+    @Setup
+    public void setUp() {
+        resolver = new AuthUserArgumentResolver();
+
+        // JwtFilter 가 요청에 넣어 두는 속성과 동일하게 구성합니다.
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", 1L);
+        request.setAttribute("email", "bench@example.com");
+        request.setAttribute("userRole", "USER");
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public UserRole userRoleOf() {
+        return UserRole.of("USER");
+    }
+
+    @Benchmark
+    public Object resolveArgument() {
+        return resolver.resolveArgument(null, null, webRequest, null);
+    }
+}
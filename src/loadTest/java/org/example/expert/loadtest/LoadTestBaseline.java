@@ -0,0 +1,51 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 저장해 둔 기준선 리포트와 이번 리포트를 엔드포인트별로 나란히 놓고 처리량, 지연 백분위, 오류 수의 변화를 보여줍니다.
+ * 설정(목표 처리량, 측정 시간 등)이 다르면 비교 의미가 없으므로 맨 위에 경고를 붙입니다.
+ */
+final class LoadTestBaseline {
+
+    private static final String[] METRICS = {"throughputPerSecond", "p50Millis", "p99Millis", "p999Millis", "errors"};
+
+    private LoadTestBaseline() {
+    }
+
+    static String compare(JsonNode baseline, JsonNode current) {
+        StringBuilder out = new StringBuilder("baseline 비교 (기준선 -> 이번, 변화율)\n");
+        if (!baseline.path("settings").equals(current.path("settings"))) {
+            out.append("주의: 실행 설정이 기준선과 다릅니다. baseline=").append(baseline.path("settings"))
+                    .append(" current=").append(current.path("settings")).append('\n');
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> endpoints = current.path("endpoints").fields();
+        while (endpoints.hasNext()) {
+            Map.Entry<String, JsonNode> endpoint = endpoints.next();
+            JsonNode before = baseline.path("endpoints").path(endpoint.getKey());
+            out.append(String.format("%-28s", endpoint.getKey()));
+            if (before.isMissingNode()) {
+                out.append(" (기준선에 없음)\n");
+                continue;
+            }
+            for (String metric : METRICS) {
+                double was = before.path(metric).asDouble();
+                double now = endpoint.getValue().path(metric).asDouble();
+                out.append(String.format("  %s %.2f -> %.2f (%s)", metric, was, now, change(was, now)));
+            }
+            out.append('\n');
+        }
+        return out.toString();
+    }
+
+    private static String change(double was, double now) {
+        if (was == 0) {
+            return now == 0 ? "0%" : "new";
+        }
+        return String.format("%+.1f%%", (now - was) / was * 100);
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 진입점들이 함께 쓰는 요청 생성과 --key=value 옵션 파싱.
+ */
+final class LoadTestSupport {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private LoadTestSupport() {
+    }
+
+    static HttpRequest get(URI uri, String bearerToken) {
+        return HttpRequest.newBuilder(uri)
+                .header("Authorization", bearerToken)
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    static HttpRequest post(URI uri, String bearerToken, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (bearerToken != null) {
+            builder.header("Authorization", bearerToken);
+        }
+        return builder.build();
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,329 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.example.expert.ExpertApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 애플리케이션을 H2 로 띄우고 날씨 API 를 로컬 스텁(WeatherStubServer)으로 바꾼 뒤,
+ * 가입/로그인, 일정 생성/목록, 댓글, 담당자 요청을 섞어 목표 처리량(open model)으로 보냅니다.
+ * 요청은 정해진 시각에 응답을 기다리지 않고 출발하며, 지연은 예정 출발 시각부터 재므로 서버가 밀려도 지연이 과소 측정되지 않습니다.
+ * 엔드포인트별 처리량과 HdrHistogram 백분위 지연을 JSON 으로 남기고, 기준선 파일이 있으면 비교 결과를 출력합니다.
+ */
+public class MixedTrafficLoadTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    // 1µs ~ 60s 를 유효숫자 3자리로 기록합니다.
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+    private static final String PASSWORD = "LoadTest1";
+    private static final int SEED_ATTEMPTS = 5;
+
+    // 가중치 합은 100 입니다.
+    private enum Operation {
+        SIGNUP("POST /auth/signup", 2),
+        SIGNIN("POST /auth/signin", 3),
+        CREATE_TODO("POST /todos", 15),
+        LIST_TODOS("GET /todos", 30),
+        LIST_COMMENTS("GET /todos/{id}/comments", 20),
+        CREATE_COMMENT("POST /todos/{id}/comments", 15),
+        LIST_MANAGERS("GET /todos/{id}/managers", 10),
+        CREATE_MANAGER("POST /todos/{id}/managers", 5);
+
+        private final String endpoint;
+        private final int weight;
+
+        Operation(String endpoint, int weight) {
+            this.endpoint = endpoint;
+            this.weight = weight;
+        }
+    }
+
+    private record Session(String email, String bearerToken, long userId, long todoId) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTestSupport.parseOptions(args);
+        int rate = Integer.parseInt(options.getOrDefault("rate", "200"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "10"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration-seconds", "60"));
+        int users = Integer.parseInt(options.getOrDefault("users", "50"));
+        int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "2000"));
+        Duration weatherLatency = Duration.ofMillis(Long.parseLong(options.getOrDefault("weather-latency-ms", "50")));
+        double weatherFailureRate = Double.parseDouble(options.getOrDefault("weather-failure-rate", "0"));
+        String weatherStaleTolerance = options.getOrDefault("weather-stale-tolerance", "PT48H");
+        Path report = Path.of(options.getOrDefault("report", "build/reports/loadtest/mixed-traffic.json"));
+        Path baseline = Path.of(options.getOrDefault("baseline", "src/loadTest/baseline/mixed-traffic.json"));
+        boolean saveBaseline = Boolean.parseBoolean(options.getOrDefault("save-baseline", "false"));
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("targetRatePerSecond", rate);
+        settings.put("warmupSeconds", warmupSeconds);
+        settings.put("durationSeconds", durationSeconds);
+        settings.put("users", users);
+        settings.put("weatherLatencyMillis", weatherLatency.toMillis());
+        settings.put("weatherFailureRate", weatherFailureRate);
+        settings.put("weatherStaleTolerance", weatherStaleTolerance);
+        results.put("settings", settings);
+
+        try (WeatherStubServer weatherStub = WeatherStubServer.start(weatherLatency, weatherFailureRate);
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(ExpertApplication.class)
+                     .properties(appProperties(weatherStub.baseUrl(), weatherStaleTolerance))
+                     .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+
+            Run run;
+            try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient httpClient = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .executor(clientExecutor)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .build();
+
+                List<Session> sessions = seed(httpClient, baseUri, users);
+                run = new Run(httpClient, baseUri, sessions);
+                run.drive(rate, warmupSeconds, durationSeconds, maxInFlight, clientExecutor);
+            }
+            results.put("endpoints", run.summarize(durationSeconds));
+            results.put("weatherStub", Map.of("requests", weatherStub.requests(), "failures", weatherStub.failures()));
+        }
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        OBJECT_MAPPER.writeValue(report.toFile(), results);
+        System.out.println(OBJECT_MAPPER.writeValueAsString(results));
+        System.out.println("report: " + report.toAbsolutePath());
+
+        JsonNode current = OBJECT_MAPPER.valueToTree(results);
+        if (Files.exists(baseline)) {
+            System.out.println(LoadTestBaseline.compare(OBJECT_MAPPER.readTree(baseline.toFile()), current));
+        } else {
+            System.out.println("baseline 없음: " + baseline.toAbsolutePath() + " (-PsaveBaseline=true 로 저장)");
+        }
+        if (saveBaseline) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            OBJECT_MAPPER.writeValue(baseline.toFile(), results);
+            System.out.println("baseline 저장: " + baseline.toAbsolutePath());
+        }
+    }
+
+    // 사용자마다 가입 후 일정을 하나씩 만들어 두고, 댓글/담당자 요청의 대상으로 씁니다.
+    private static List<Session> seed(HttpClient httpClient, URI baseUri, int users) throws Exception {
+        List<Session> sessions = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String email = "seed-" + i + "@load.test";
+            HttpResponse<String> signup = httpClient.send(signupRequest(baseUri, email), HttpResponse.BodyHandlers.ofString());
+            String bearerToken = OBJECT_MAPPER.readTree(signup.body()).get("bearerToken").asText();
+            sessions.add(new Session(email, bearerToken, userIdOf(bearerToken), createSeedTodo(httpClient, baseUri, bearerToken)));
+        }
+        return sessions;
+    }
+
+    // 날씨 스텁 실패 주입 중에도 시드 일정은 만들어져야 하므로 몇 번 다시 시도합니다.
+    private static long createSeedTodo(HttpClient httpClient, URI baseUri, String bearerToken) throws Exception {
+        HttpRequest request = LoadTestSupport.post(baseUri.resolve("/todos"), bearerToken, "{\"title\":\"seed\",\"contents\":\"seed\"}");
+        for (int attempt = 1; ; attempt++) {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() < 400) {
+                return OBJECT_MAPPER.readTree(response.body()).get("id").asLong();
+            }
+            if (attempt == SEED_ATTEMPTS) {
+                throw new IllegalStateException("시드 일정을 만들지 못했습니다. status=" + response.statusCode() + " body=" + response.body());
+            }
+        }
+    }
+
+    // 가입 응답에는 토큰만 있으므로 JWT payload 의 sub 에서 유저 id 를 꺼냅니다.
+    private static long userIdOf(String bearerToken) throws Exception {
+        String payload = bearerToken.substring("Bearer ".length()).split("\\.")[1];
+        return OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(payload)).get("sub").asLong();
+    }
+
+    private static HttpRequest signupRequest(URI baseUri, String email) {
+        return LoadTestSupport.post(baseUri.resolve("/auth/signup"), null,
+                "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\",\"userRole\":\"USER\"}");
+    }
+
+    private static Map<String, Object> appProperties(String weatherBaseUrl, String weatherStaleTolerance) {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest-mixed;DB_CLOSE_DELAY=-1");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("jwt.secret.key", Base64.getEncoder().encodeToString(secret));
+        properties.put("management.server.port", 0);
+        properties.put("audit.directory", "build/loadtest/audit");
+        // 일정 생성 경로에서 날씨 스텁을 거치도록 동기 모드로 둡니다. 스텁 호출 빈도는 stale-tolerance 로 조절합니다.
+        properties.put("weather.api.base-url", weatherBaseUrl);
+        properties.put("weather.enrichment.async", false);
+        properties.put("weather.stale-tolerance", weatherStaleTolerance);
+        return properties;
+    }
+
+    private static final class Run {
+
+        private final HttpClient httpClient;
+        private final URI baseUri;
+        private final List<Session> sessions;
+        private final Operation[] schedule = new Operation[100];
+        private final Map<Operation, EndpointStats> stats = new LinkedHashMap<>();
+        private final AtomicLong signupSequence = new AtomicLong();
+
+        Run(HttpClient httpClient, URI baseUri, List<Session> sessions) {
+            this.httpClient = httpClient;
+            this.baseUri = baseUri;
+            this.sessions = sessions;
+            int slot = 0;
+            for (Operation operation : Operation.values()) {
+                for (int i = 0; i < operation.weight; i++) {
+                    schedule[slot++] = operation;
+                }
+                stats.put(operation, new EndpointStats());
+            }
+        }
+
+        // 한 스레드가 1/rate 간격으로 예정 시각을 정해 요청을 가상 스레드에 넘깁니다. 응답을 기다리지 않으므로 도착률이 서버 속도에 끌려가지 않습니다.
+        void drive(int rate, int warmupSeconds, int durationSeconds, int maxInFlight, ExecutorService executor) {
+            long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+            long start = System.nanoTime();
+            long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+            long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+            Semaphore inFlight = new Semaphore(maxInFlight);
+            SplittableRandom random = new SplittableRandom(42);
+
+            for (long k = 0; ; k++) {
+                long intendedStart = start + k * intervalNanos;
+                if (intendedStart >= end) {
+                    break;
+                }
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Operation operation = schedule[random.nextInt(schedule.length)];
+                boolean measured = intendedStart >= measureFrom;
+                EndpointStats endpointStats = stats.get(operation);
+                // 동시 요청이 상한에 닿으면 보내지 않고 세기만 합니다. (클라이언트 쪽 과부하 표시)
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        endpointStats.skipped.increment();
+                    }
+                    continue;
+                }
+                executor.execute(() -> {
+                    boolean ok;
+                    try {
+                        ok = send(operation) < 400;
+                    } catch (Exception e) {
+                        ok = false;
+                    } finally {
+                        inFlight.release();
+                    }
+                    if (measured) {
+                        endpointStats.record(System.nanoTime() - intendedStart, ok);
+                    }
+                });
+            }
+        }
+
+        private int send(Operation operation) throws Exception {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Session session = sessions.get(random.nextInt(sessions.size()));
+            HttpRequest request = switch (operation) {
+                case SIGNUP -> signupRequest(baseUri, "load-" + signupSequence.incrementAndGet() + "@load.test");
+                case SIGNIN -> LoadTestSupport.post(baseUri.resolve("/auth/signin"), null,
+                        "{\"email\":\"" + session.email() + "\",\"password\":\"" + PASSWORD + "\"}");
+                case CREATE_TODO -> LoadTestSupport.post(baseUri.resolve("/todos"), session.bearerToken(),
+                        "{\"title\":\"load\",\"contents\":\"mixed traffic\"}");
+                case LIST_TODOS -> LoadTestSupport.get(baseUri.resolve("/todos?page=1&size=10"), session.bearerToken());
+                case LIST_COMMENTS -> LoadTestSupport.get(baseUri.resolve("/todos/" + session.todoId() + "/comments"),
+                        session.bearerToken());
+                case CREATE_COMMENT -> LoadTestSupport.post(baseUri.resolve("/todos/" + session.todoId() + "/comments"),
+                        session.bearerToken(), "{\"contents\":\"load comment\"}");
+                case LIST_MANAGERS -> LoadTestSupport.get(baseUri.resolve("/todos/" + session.todoId() + "/managers"),
+                        session.bearerToken());
+                case CREATE_MANAGER -> LoadTestSupport.post(baseUri.resolve("/todos/" + session.todoId() + "/managers"),
+                        session.bearerToken(), "{\"managerUserId\":" + otherUserId(session, random) + "}");
+            };
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        }
+
+        // 일정 작성자는 본인을 담당자로 등록할 수 없으므로 다른 시드 유저를 고릅니다.
+        private long otherUserId(Session owner, ThreadLocalRandom random) {
+            Session other = sessions.get(random.nextInt(sessions.size()));
+            return other.userId() != owner.userId() ? other.userId() : sessions.get((sessions.indexOf(owner) + 1) % sessions.size()).userId();
+        }
+
+        Map<String, Object> summarize(int durationSeconds) {
+            Map<String, Object> byEndpoint = new LinkedHashMap<>();
+            for (Map.Entry<Operation, EndpointStats> entry : stats.entrySet()) {
+                Histogram histogram = entry.getValue().histogram;
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("requests", histogram.getTotalCount());
+                summary.put("errors", entry.getValue().errors.sum());
+                summary.put("skipped", entry.getValue().skipped.sum());
+                summary.put("throughputPerSecond", (double) histogram.getTotalCount() / durationSeconds);
+                summary.put("p50Millis", millis(histogram.getValueAtPercentile(50)));
+                summary.put("p90Millis", millis(histogram.getValueAtPercentile(90)));
+                summary.put("p99Millis", millis(histogram.getValueAtPercentile(99)));
+                summary.put("p999Millis", millis(histogram.getValueAtPercentile(99.9)));
+                summary.put("maxMillis", millis(histogram.getMaxValue()));
+                byEndpoint.put(entry.getKey().endpoint, summary);
+            }
+            return byEndpoint;
+        }
+
+        private static double millis(long micros) {
+            return micros / 1_000.0;
+        }
+    }
+
+    private static final class EndpointStats {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+
+        void record(long latencyNanos, boolean ok) {
+            if (!ok) {
+                errors.increment();
+            }
+            histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+        }
+    }
+}
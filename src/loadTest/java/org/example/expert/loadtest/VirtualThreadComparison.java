@@ -0,0 +1,211 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.example.expert.ExpertApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 같은 애플리케이션을 플랫폼 스레드 모드와 가상 스레드 모드(spring.threads.virtual.enabled)로 차례로 띄우고,
+ * GET /todos, POST /todos, GET /todos/{id}/comments 에 동일한 closed-loop 부하를 걸어 처리량과 p99 지연을 비교합니다.
+ * H2 인메모리 DB 를 사용하고 날씨는 비동기 보강 모드로 두어 외부 네트워크 없이 실행됩니다.
+ */
+public class VirtualThreadComparison {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String[] ENDPOINTS = {"GET /todos", "POST /todos", "GET /todos/{id}/comments"};
+    private static final int SEED_COMMENTS = 20;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = LoadTestSupport.parseOptions(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "400"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration-seconds", "30"));
+        Path report = Path.of(options.getOrDefault("report", "build/reports/loadtest/virtual-threads.json"));
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("concurrency", concurrency);
+        results.put("durationSeconds", durationSeconds);
+        results.put("platform", runMode(false, concurrency, durationSeconds));
+        results.put("virtual", runMode(true, concurrency, durationSeconds));
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        OBJECT_MAPPER.writeValue(report.toFile(), results);
+        System.out.println(OBJECT_MAPPER.writeValueAsString(results));
+        System.out.println("report: " + report.toAbsolutePath());
+    }
+
+    private static Map<String, Object> runMode(boolean virtualThreads, int concurrency, int durationSeconds) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ExpertApplication.class)
+                .properties(appProperties(virtualThreads))
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+
+            try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient httpClient = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .executor(clientExecutor)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .build();
+
+                String bearerToken = seed(httpClient, baseUri);
+                long todoId = createTodo(httpClient, baseUri, bearerToken);
+                for (int i = 0; i < SEED_COMMENTS; i++) {
+                    send(httpClient, LoadTestSupport.post(baseUri.resolve("/todos/" + todoId + "/comments"), bearerToken,
+                            "{\"contents\":\"comment " + i + "\"}"));
+                }
+
+                return drive(httpClient, baseUri, bearerToken, todoId, concurrency, durationSeconds, clientExecutor);
+            }
+        }
+    }
+
+    private static Map<String, Object> drive(HttpClient httpClient, URI baseUri, String bearerToken, long todoId,
+                                             int concurrency, int durationSeconds, ExecutorService executor) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(durationSeconds).toNanos();
+        List<HttpRequest> requests = List.of(
+                LoadTestSupport.get(baseUri.resolve("/todos?page=1&size=10"), bearerToken),
+                LoadTestSupport.post(baseUri.resolve("/todos"), bearerToken, "{\"title\":\"load\",\"contents\":\"test\"}"),
+                LoadTestSupport.get(baseUri.resolve("/todos/" + todoId + "/comments"), bearerToken)
+        );
+
+        List<Future<Recorder>> workers = new ArrayList<>(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            int offset = w;
+            workers.add(executor.submit(() -> {
+                Recorder recorder = new Recorder();
+                for (long i = offset; System.nanoTime() < deadline; i++) {
+                    int endpoint = (int) (i % ENDPOINTS.length);
+                    long start = System.nanoTime();
+                    boolean ok;
+                    try {
+                        ok = send(httpClient, requests.get(endpoint)) < 400;
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    recorder.record(endpoint, System.nanoTime() - start, ok);
+                }
+                return recorder;
+            }));
+        }
+
+        Recorder merged = new Recorder();
+        for (Future<Recorder> worker : workers) {
+            merged.merge(worker.get());
+        }
+
+        Map<String, Object> byEndpoint = new LinkedHashMap<>();
+        for (int endpoint = 0; endpoint < ENDPOINTS.length; endpoint++) {
+            long[] latencies = merged.latencies(endpoint);
+            Arrays.sort(latencies);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", latencies.length);
+            summary.put("errors", merged.errors[endpoint]);
+            summary.put("throughputPerSecond", (double) latencies.length / durationSeconds);
+            summary.put("p50Millis", percentileMillis(latencies, 0.50));
+            summary.put("p99Millis", percentileMillis(latencies, 0.99));
+            byEndpoint.put(ENDPOINTS[endpoint], summary);
+        }
+        return byEndpoint;
+    }
+
+    private static String seed(HttpClient httpClient, URI baseUri) throws Exception {
+        HttpResponse<String> response = httpClient.send(
+                LoadTestSupport.post(baseUri.resolve("/auth/signup"), null,
+                        "{\"email\":\"load@example.com\",\"password\":\"LoadTest1\",\"userRole\":\"USER\"}"),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode body = OBJECT_MAPPER.readTree(response.body());
+        return body.get("bearerToken").asText();
+    }
+
+    private static long createTodo(HttpClient httpClient, URI baseUri, String bearerToken) throws Exception {
+        HttpResponse<String> response = httpClient.send(
+                LoadTestSupport.post(baseUri.resolve("/todos"), bearerToken, "{\"title\":\"seed\",\"contents\":\"seed\"}"),
+                HttpResponse.BodyHandlers.ofString());
+        return OBJECT_MAPPER.readTree(response.body()).get("id").asLong();
+    }
+
+    private static int send(HttpClient httpClient, HttpRequest request) throws Exception {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static Map<String, Object> appProperties(boolean virtualThreads) {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest-" + (virtualThreads ? "virtual" : "platform") + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("jwt.secret.key", Base64.getEncoder().encodeToString(secret));
+        properties.put("spring.threads.virtual.enabled", virtualThreads);
+        properties.put("management.server.port", 0);
+        // 외부 날씨 API 를 호출하지 않도록 비동기 보강 모드로 두고 보강 주기는 측정 시간보다 길게 잡습니다.
+        properties.put("weather.enrichment.async", true);
+        properties.put("weather.enrichment.interval-ms", Duration.ofHours(1).toMillis());
+        return properties;
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    // 워커마다 하나씩 두고 마지막에 합쳐서 기록 중 락 경합이 측정값을 왜곡하지 않도록 합니다.
+    private static class Recorder {
+
+        private final long[][] samples = new long[ENDPOINTS.length][1024];
+        private final int[] counts = new int[ENDPOINTS.length];
+        private final long[] errors = new long[ENDPOINTS.length];
+
+        void record(int endpoint, long latencyNanos, boolean ok) {
+            if (!ok) {
+                errors[endpoint]++;
+            }
+            if (counts[endpoint] == samples[endpoint].length) {
+                samples[endpoint] = Arrays.copyOf(samples[endpoint], counts[endpoint] * 2);
+            }
+            samples[endpoint][counts[endpoint]++] = latencyNanos;
+        }
+
+        void merge(Recorder other) {
+            for (int endpoint = 0; endpoint < ENDPOINTS.length; endpoint++) {
+                for (int i = 0; i < other.counts[endpoint]; i++) {
+                    record(endpoint, other.samples[endpoint][i], true);
+                }
+                errors[endpoint] += other.errors[endpoint];
+            }
+        }
+
+        long[] latencies(int endpoint) {
+            return Arrays.copyOf(samples[endpoint], counts[endpoint]);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.expert.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 날씨 API(/f-api/weather.json)를 대신하는 로컬 스텁 서버. 응답 지연과 실패(503) 비율을 지정할 수 있습니다.
+ * 응답 본문은 윤년 기준 366일치 MM-dd 별 날씨이며 시작할 때 한 번만 만듭니다.
+ */
+final class WeatherStubServer implements AutoCloseable {
+
+    private static final String PATH = "/f-api/weather.json";
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy"};
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Duration latency;
+    private final double failureRate;
+    private final byte[] body;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    private WeatherStubServer(Duration latency, double failureRate) throws IOException {
+        this.latency = latency;
+        this.failureRate = failureRate;
+        this.body = forecastJson();
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext(PATH, this::handle);
+    }
+
+    static WeatherStubServer start(Duration latency, double failureRate) throws IOException {
+        WeatherStubServer stub = new WeatherStubServer(latency, failureRate);
+        stub.server.start();
+        return stub;
+    }
+
+    // weather.api.base-url 에 넣을 값
+    String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    long failures() {
+        return failures.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            if (!latency.isZero()) {
+                Thread.sleep(latency);
+            }
+            if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                failures.incrementAndGet();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] forecastJson() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        StringJoiner json = new StringJoiner(",", "[", "]");
+        LocalDate day = LocalDate.of(2024, 1, 1);
+        for (int i = 0; day.getYear() == 2024; i++, day = day.plusDays(1)) {
+            json.add("{\"date\":\"" + day.format(formatter) + "\",\"weather\":\"" + WEATHERS[i % WEATHERS.length] + "\"}");
+        }
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+}
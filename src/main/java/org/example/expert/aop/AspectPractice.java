@@ -1,45 +1,54 @@
 package org.example.expert.aop;
 
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.example.expert.audit.AuditEvent;
+import org.example.expert.audit.AuditLog;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.time.LocalDateTime;
-
-@Slf4j
 @Aspect
 public class AspectPractice {
 
+    private final AuditLog auditLog;
+
+    public AspectPractice(AuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
     @Pointcut("@annotation(org.example.expert.annotation.TrackTime)")
     private void trackTimeAnnotation() {
 
     }
 
+    // 요청 스레드에서는 값만 모아 링 버퍼에 넣고, 포맷과 파일 쓰기는 AuditLog 의 writer 스레드가 합니다.
     @Around("trackTimeAnnotation()")
     public Object adviceAnnotation(ProceedingJoinPoint joinPoint) throws Throwable {
         ServletRequestAttributes servletRequestAttributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
         HttpServletRequest request = servletRequestAttributes.getRequest();
-        Long userId = (Long)request.getAttribute("userId");
-        LocalDateTime requestTime = LocalDateTime.now(); // 요청 시각
-        StringBuffer requestURL = request.getRequestURL();
-        String fullURL = requestURL.toString(); // 요청 URL
-
-        String queryString = request.getQueryString();
-        if (queryString != null) {
-            fullURL += "?" + queryString;
-        }
+        long requestTimeMillis = System.currentTimeMillis(); // 요청 시각
+        long start = System.nanoTime();
+        String exception = null;
 
         try {
-            Object result = joinPoint.proceed();
-            return result;
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
         } finally {
-            log.info("::: UserID: {}, RequestTime: {}, RequestURL: {}",
-                    userId, requestTime, fullURL);
+            auditLog.record(new AuditEvent(
+                    requestTimeMillis,
+                    (Long) request.getAttribute("userId"),
+                    joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName(),
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    request.getQueryString(),
+                    (System.nanoTime() - start) / 1_000,
+                    exception
+            ));
         }
     }
 }
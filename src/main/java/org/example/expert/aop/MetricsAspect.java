@@ -0,0 +1,96 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메서드, 리포지토리 메서드, @TrackTime 메서드의 실행 시간을 Micrometer Timer 로 기록합니다.
+ * 태그는 class, method, outcome(SUCCESS/ERROR), exception 이며 percentile histogram 을 내보내므로
+ * Prometheus 에서 histogram_quantile 로 메서드별 p50/p99 를 구할 수 있습니다.
+ * 라우트별 지연은 Spring MVC 가 기록하는 http.server.requests 를 사용합니다. (application.properties 참고)
+ */
+@Aspect
+public class MetricsAspect {
+
+    public static final String SERVICE_TIMER = "app.service.calls";
+    public static final String REPOSITORY_TIMER = "app.repository.calls";
+    public static final String TRACKED_TIMER = "app.tracked.calls";
+
+    // histogram 버킷 수를 줄이기 위해 기대 범위를 1ms ~ 10s 로 제한합니다.
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+
+    private final MeterRegistry meterRegistry;
+    // 호출마다 Tags 를 만들고 정렬해 레지스트리를 찾는 비용을 피하려고 (지표, 클래스, 메서드, 예외) 별 Timer 를 보관합니다.
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public MetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && within(org.example.expert..*) && execution(public * *(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(SERVICE_TIMER, joinPoint.getSignature().getDeclaringType().getSimpleName(), joinPoint);
+    }
+
+    // Stream 을 돌려주는 메서드는 Stream 을 만들 때까지만 측정됩니다. (소비 시간은 호출한 서비스 메서드에 포함됩니다)
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repositoryName = repositoryNames.computeIfAbsent(joinPoint.getTarget().getClass(), MetricsAspect::repositoryName);
+        return record(REPOSITORY_TIMER, repositoryName, joinPoint);
+    }
+
+    @Around("@annotation(org.example.expert.annotation.TrackTime)")
+    public Object timeTracked(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(TRACKED_TIMER, joinPoint.getSignature().getDeclaringType().getSimpleName(), joinPoint);
+    }
+
+    private Object record(String name, String className, ProceedingJoinPoint joinPoint) throws Throwable {
+        String methodName = joinPoint.getSignature().getName();
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            timer(name, className, methodName, null).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(name, className, methodName, e.getClass().getSimpleName()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(String name, String className, String methodName, String exception) {
+        return timers.computeIfAbsent(new TimerKey(name, className, methodName, exception), key -> Timer.builder(key.name())
+                .tag("class", key.className())
+                .tag("method", key.methodName())
+                .tag("outcome", key.exception() == null ? "SUCCESS" : "ERROR")
+                .tag("exception", key.exception() == null ? "none" : key.exception())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry));
+    }
+
+    // save/findById 처럼 CrudRepository 에 선언된 메서드도 실제 리포지토리 인터페이스 이름(TodoRepository 등)으로 묶습니다.
+    private static String repositoryName(Class<?> targetClass) {
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (Repository.class.isAssignableFrom(candidate) && !candidate.getName().startsWith("org.springframework.")) {
+                return candidate.getSimpleName();
+            }
+        }
+        return ClassUtils.getUserClass(targetClass).getSimpleName();
+    }
+
+    private record TimerKey(String name, String className, String methodName, String exception) {
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.audit;
+
+/**
+ * 관리자 작업 한 건의 감사 기록. 요청 스레드에서는 값만 담고, 시각 포맷과 직렬화는 writer 스레드가 합니다.
+ *
+ * @param occurredAtMillis epoch millis
+ * @param exception        성공이면 null
+ */
+public record AuditEvent(
+        long occurredAtMillis,
+        Long userId,
+        String action,
+        String httpMethod,
+        String uri,
+        String queryString,
+        long elapsedMicros,
+        String exception
+) {
+}
@@ -0,0 +1,202 @@
+package org.example.expert.audit;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 관리자 작업 감사 이벤트 파이프라인.
+ * 요청 스레드는 링 버퍼에 이벤트를 넣기만 하고(락/파일 I/O 없음), writer 스레드 하나가 모아서 NDJSON 파일에 씁니다.
+ * 버퍼가 가득 차면 audit.overflow-policy 에 따라 버리거나 잠깐 기다린 뒤 버리며, 버린 건수는 audit.events.dropped 로 집계합니다.
+ */
+@Slf4j
+@Component
+public class AuditLog {
+
+    private static final int BATCH_SIZE = 512;
+    // 버퍼가 비어 있을 때 writer 가 쉬는 시간. 생산자가 매번 깨우지 않도록 짧게 주기적으로 확인합니다.
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AuditRingBuffer<AuditEvent> ringBuffer;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final long offerTimeoutNanos;
+    private final RollingNdjsonFile file;
+    private final JsonFactory jsonFactory;
+    private final Clock clock;
+
+    private final Counter droppedEvents;
+    private final Counter writtenEvents;
+    private final Counter failedEvents;
+    private final Timer writeLag;
+
+    private final ByteArrayOutputStream lineBuffer = new ByteArrayOutputStream(512);
+    private volatile boolean running;
+    private Thread writer;
+
+    @Autowired
+    public AuditLog(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${audit.directory:logs/audit}") Path directory,
+            @Value("${audit.capacity:8192}") int capacity,
+            @Value("${audit.max-file-bytes:67108864}") long maxFileBytes,
+            @Value("${audit.overflow-policy:drop}") String overflowPolicy,
+            @Value("${audit.offer-timeout:PT0.05S}") Duration offerTimeout
+    ) {
+        this(objectMapper.getFactory(), meterRegistry, new AuditRingBuffer<>(capacity),
+                AuditOverflowPolicy.of(overflowPolicy), offerTimeout,
+                new RollingNdjsonFile(directory, "audit", maxFileBytes, Clock.systemDefaultZone()), Clock.systemDefaultZone());
+    }
+
+    AuditLog(JsonFactory jsonFactory, MeterRegistry meterRegistry, AuditRingBuffer<AuditEvent> ringBuffer,
+             AuditOverflowPolicy overflowPolicy, Duration offerTimeout, RollingNdjsonFile file, Clock clock) {
+        this.jsonFactory = jsonFactory;
+        this.ringBuffer = ringBuffer;
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.file = file;
+        this.clock = clock;
+
+        this.droppedEvents = Counter.builder("audit.events.dropped")
+                .description("링 버퍼가 가득 차 버린 감사 이벤트 수")
+                .register(meterRegistry);
+        this.writtenEvents = Counter.builder("audit.events.written").register(meterRegistry);
+        this.failedEvents = Counter.builder("audit.events.failed")
+                .description("파일 쓰기 실패로 잃은 감사 이벤트 수")
+                .register(meterRegistry);
+        this.writeLag = Timer.builder("audit.write.lag")
+                .description("이벤트 발생부터 파일에 쓰일 때까지 걸린 시간 (배치의 가장 오래된 이벤트 기준)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("audit.queue.depth", ringBuffer, AuditRingBuffer::size)
+                .description("아직 파일에 쓰이지 않은 감사 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::drainLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // 종료 시 버퍼에 남은 이벤트를 모두 쓰고 파일을 닫습니다.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * 요청 스레드에서 호출합니다. 넣지 못하면 false 를 돌려주며 예외는 던지지 않습니다.
+     */
+    public boolean record(AuditEvent event) {
+        if (ringBuffer.offer(event)) {
+            return true;
+        }
+        if (overflowPolicy == AuditOverflowPolicy.BLOCK_WITH_TIMEOUT) {
+            long deadline = System.nanoTime() + offerTimeoutNanos;
+            while (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (ringBuffer.offer(event)) {
+                    return true;
+                }
+            }
+        }
+        droppedEvents.increment();
+        return false;
+    }
+
+    private void drainLoop() {
+        List<AuditEvent> batch = new ArrayList<>(BATCH_SIZE);
+        while (running) {
+            if (ringBuffer.drainTo(batch, BATCH_SIZE) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            writeBatch(batch);
+            batch.clear();
+        }
+
+        while (ringBuffer.drainTo(batch, BATCH_SIZE) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+        try {
+            file.close();
+        } catch (IOException e) {
+            log.warn("감사 로그 파일을 닫지 못했습니다.", e);
+        }
+    }
+
+    // 배치 하나를 쓰고 한 번만 flush 합니다. (OS 페이지 캐시까지만 보장하며 fsync 는 하지 않습니다)
+    private void writeBatch(List<AuditEvent> batch) {
+        try {
+            for (AuditEvent event : batch) {
+                file.write(toJsonLine(event));
+            }
+            file.flush();
+            writtenEvents.increment(batch.size());
+            writeLag.record(Math.max(0, clock.millis() - batch.get(0).occurredAtMillis()), TimeUnit.MILLISECONDS);
+        } catch (IOException | RuntimeException e) {
+            failedEvents.increment(batch.size());
+            log.error("감사 로그를 쓰지 못했습니다. events={}", batch.size(), e);
+            try {
+                // 다음 배치에서 파일을 다시 엽니다.
+                file.close();
+            } catch (IOException ignored) {
+                // 이미 쓰기에 실패한 스트림이므로 닫기 실패는 무시합니다.
+            }
+        }
+    }
+
+    private byte[] toJsonLine(AuditEvent event) throws IOException {
+        lineBuffer.reset();
+        try (JsonGenerator generator = jsonFactory.createGenerator(lineBuffer, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeStringField("occurredAt", Instant.ofEpochMilli(event.occurredAtMillis()).toString());
+            if (event.userId() == null) {
+                generator.writeNullField("userId");
+            } else {
+                generator.writeNumberField("userId", event.userId());
+            }
+            generator.writeStringField("action", event.action());
+            generator.writeStringField("httpMethod", event.httpMethod());
+            generator.writeStringField("uri", event.uri());
+            generator.writeStringField("queryString", event.queryString());
+            generator.writeNumberField("elapsedMicros", event.elapsedMicros());
+            generator.writeStringField("outcome", event.exception() == null ? "SUCCESS" : "ERROR");
+            generator.writeStringField("exception", event.exception());
+            generator.writeEndObject();
+        }
+        lineBuffer.write('\n');
+        return lineBuffer.toByteArray();
+    }
+}
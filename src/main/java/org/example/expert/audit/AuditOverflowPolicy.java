@@ -0,0 +1,18 @@
+package org.example.expert.audit;
+
+import java.util.Arrays;
+
+// 링 버퍼가 가득 찼을 때의 처리 방식 (audit.overflow-policy)
+public enum AuditOverflowPolicy {
+    // 새 이벤트를 버리고 audit.events.dropped 만 올립니다. 요청 스레드는 절대 기다리지 않습니다.
+    DROP,
+    // writer 가 자리를 비울 때까지 audit.offer-timeout 동안만 기다린 뒤, 그래도 가득 차 있으면 버립니다.
+    BLOCK_WITH_TIMEOUT;
+
+    public static AuditOverflowPolicy of(String policy) {
+        return Arrays.stream(AuditOverflowPolicy.values())
+                .filter(p -> p.name().equalsIgnoreCase(policy.replace('-', '_')))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("audit.overflow-policy 는 drop 또는 block-with-timeout 이어야 합니다."));
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.expert.audit;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * 날짜와 크기로 나뉘는 추가 전용(append-only) NDJSON 파일: audit-2024-10-01.ndjson, audit-2024-10-01.1.ndjson, ...
+ * 단일 writer 스레드에서만 사용하므로 동기화하지 않습니다.
+ */
+class RollingNdjsonFile implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final String prefix;
+    private final long maxFileBytes;
+    private final Clock clock;
+
+    private OutputStream out;
+    private LocalDate currentDate;
+    private int currentIndex;
+    private long currentBytes;
+
+    RollingNdjsonFile(Path directory, String prefix, long maxFileBytes, Clock clock) {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.maxFileBytes = maxFileBytes;
+        this.clock = clock;
+    }
+
+    void write(byte[] line) throws IOException {
+        LocalDate today = LocalDate.now(clock);
+        if (out == null || !today.equals(currentDate)) {
+            open(today, 0);
+        } else if (currentBytes > 0 && currentBytes + line.length > maxFileBytes) {
+            open(today, currentIndex + 1);
+        }
+        out.write(line);
+        currentBytes += line.length;
+    }
+
+    void flush() throws IOException {
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    Path currentPath() {
+        return currentDate == null ? null : path(currentDate, currentIndex);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    // 재시작 시에는 오늘 파일 중 아직 상한에 닿지 않은 첫 파일에 이어 씁니다.
+    private void open(LocalDate date, int fromIndex) throws IOException {
+        close();
+        Files.createDirectories(directory);
+        int index = fromIndex;
+        while (Files.exists(path(date, index)) && Files.size(path(date, index)) >= maxFileBytes) {
+            index++;
+        }
+        Path path = path(date, index);
+        out = new BufferedOutputStream(
+                Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE),
+                BUFFER_SIZE);
+        currentDate = date;
+        currentIndex = index;
+        currentBytes = Files.size(path);
+    }
+
+    private Path path(LocalDate date, int index) {
+        return directory.resolve(index == 0
+                ? prefix + "-" + date + ".ndjson"
+                : prefix + "-" + date + "." + index + ".ndjson");
+    }
+}
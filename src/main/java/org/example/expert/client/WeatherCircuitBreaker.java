@@ -0,0 +1,88 @@
+package org.example.expert.client;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 날씨 API 호출이 연속으로 실패하면 일정 시간 동안 호출 자체를 막는 간단한 서킷 브레이커.
+ * openDuration 이 지나면 HALF_OPEN 으로 바뀌어 정확히 한 번의 시험 호출만 허용하고,
+ * 시험 호출이 성공하면 닫히고(CLOSED) 실패하면 다시 openDuration 만큼 열립니다(OPEN).
+ */
+@Component
+public class WeatherCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private Instant trialStartedAt;
+
+    @Autowired
+    public WeatherCircuitBreaker(
+            @Value("${weather.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${weather.circuit-breaker.open-duration:PT30S}") Duration openDuration
+    ) {
+        this(failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    WeatherCircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    public synchronized boolean allowRequest() {
+        Instant now = clock.instant();
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (now.isBefore(openedAt.plus(openDuration))) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialStartedAt = now;
+                return true;
+            default:
+                // 시험 호출이 진행 중이면 막습니다. 결과를 보고하지 못한 채 끝난 시험 호출 때문에 영원히 막히지 않도록
+                // openDuration 이 지나면 시험 호출을 한 번 더 허용합니다.
+                if (now.isBefore(trialStartedAt.plus(openDuration))) {
+                    return false;
+                }
+                trialStartedAt = now;
+                return true;
+        }
+    }
+
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        openedAt = null;
+        trialStartedAt = null;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.instant();
+            trialStartedAt = null;
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+}
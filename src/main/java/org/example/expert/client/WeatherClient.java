@@ -1,30 +1,174 @@
 package org.example.expert.client;
 
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
-import java.time.LocalDate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.MonthDay;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 날씨 예보 파일을 한 번 받아 MonthDay 별로 색인해 두고, 매 요청은 메모리 조회로만 처리합니다.
+ * 자정 전에 백그라운드에서 미리 갱신하며(실패하면 refreshRetryDelay 뒤로 다시 예약해 refreshAttempts 번까지 재시도), 갱신에 실패하면 staleTolerance 동안 마지막 정상 데이터를 계속 사용합니다.
+ * 데이터가 없는 상태에서 조회가 실패하면 failureBackoff 동안은 외부 호출 없이 바로 실패시켜, 요청들이 fetchLock 앞에 줄 서지 않도록 합니다.
+ */
+@Slf4j
 @Component
 public class WeatherClient {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(3);
+    private static final String WEATHER_PATH = "/f-api/weather.json";
+
     private final RestTemplate restTemplate;
+    private final URI weatherApiUri;
+    private final Duration staleTolerance;
+    private final Duration failureBackoff;
+    private final int refreshAttempts;
+    private final Duration refreshRetryDelay;
+    // 재시도는 기다리지 않고 이 스케줄러에 다시 예약합니다. (같은 스케줄러를 쓰는 다른 @Scheduled 작업이 밀리지 않도록)
+    private final TaskScheduler taskScheduler;
+    private final Clock clock;
+    // synchronized 블록 안에서 HTTP 호출을 기다리면 가상 스레드가 carrier 스레드에 고정(pinning)되므로 Lock 을 사용합니다.
+    private final ReentrantLock fetchLock = new ReentrantLock();
+
+    private volatile Forecast forecast;
+    // 마지막 조회 실패 후 이 시각까지는 외부 호출을 다시 하지 않습니다. (negative cache)
+    private volatile Instant failedUntil;
+
+    @Autowired
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            // 부하 테스트 등에서 로컬 스텁 서버로 바꿔 끼울 수 있도록 호스트만 설정으로 받습니다.
+            @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.stale-tolerance:PT48H}") Duration staleTolerance,
+            @Value("${weather.failure-backoff:PT10S}") Duration failureBackoff,
+            @Value("${weather.refresh-attempts:3}") int refreshAttempts,
+            @Value("${weather.refresh-retry-delay:PT5S}") Duration refreshRetryDelay,
+            TaskScheduler taskScheduler
+    ) {
+        this(builder
+                        .setConnectTimeout(CONNECT_TIMEOUT)
+                        .setReadTimeout(READ_TIMEOUT)
+                        .build(),
+                baseUrl, staleTolerance, failureBackoff, refreshAttempts, refreshRetryDelay, taskScheduler, Clock.systemUTC());
+    }
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    WeatherClient(RestTemplate restTemplate, String baseUrl, Duration staleTolerance, Duration failureBackoff,
+                  int refreshAttempts, Duration refreshRetryDelay, TaskScheduler taskScheduler, Clock clock) {
+        this.restTemplate = restTemplate;
+        this.weatherApiUri = buildWeatherApiUri(baseUrl);
+        this.staleTolerance = staleTolerance;
+        this.failureBackoff = failureBackoff;
+        this.refreshAttempts = Math.max(1, refreshAttempts);
+        this.refreshRetryDelay = refreshRetryDelay;
+        this.taskScheduler = taskScheduler;
+        this.clock = clock;
     }
 
     public String getTodayWeather() {
+        return getWeather(MonthDay.now());
+    }
+
+    public String getWeather(MonthDay day) {
+        return findWeather(day)
+                .orElseThrow(() -> new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다."));
+    }
+
+    // 예보는 정상적으로 받았지만 해당 날짜(예: 2월 29일)가 없으면 빈 값을 돌려줍니다. 예보를 받지 못하면 ServerException 입니다.
+    public Optional<String> findWeather(MonthDay day) {
+        return Optional.ofNullable(currentForecast().weatherByDay().get(day));
+    }
+
+    // 자정 직전에 미리 갱신해 두어 날짜가 바뀐 뒤 첫 요청이 외부 호출을 기다리지 않도록 합니다.
+    @Scheduled(cron = "${weather.refresh-cron:0 50 23 * * *}")
+    public void refresh() {
+        refresh(1);
+    }
+
+    private void refresh(int attempt) {
+        try {
+            forecast = fetchForecast();
+            failedUntil = null;
+        } catch (RestClientException | ServerException e) {
+            if (attempt >= refreshAttempts) {
+                log.warn("날씨 데이터 갱신에 {}번 실패했습니다. 마지막으로 받은 데이터를 계속 사용합니다.", attempt, e);
+                return;
+            }
+            log.info("날씨 데이터 갱신에 실패해 {} 뒤 다시 시도합니다. attempt={}", refreshRetryDelay, attempt);
+            // 스케줄러 스레드에서 sleep 하지 않고 다음 시도를 예약한 뒤 바로 돌려줍니다.
+            taskScheduler.schedule(() -> refresh(attempt + 1), clock.instant().plus(refreshRetryDelay));
+        }
+    }
+
+    private Forecast currentForecast() {
+        Forecast current = forecast;
+        if (current != null && !current.isExpired(staleTolerance, clock.instant())) {
+            return current;
+        }
+        checkBackoff();
+
+        try {
+            // 조회를 기다리다 취소(interrupt)된 호출은 바로 빠져나가도록 interruptible 로 잡습니다.
+            fetchLock.lockInterruptibly();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("날씨 데이터 조회가 취소되었습니다.");
+        }
+        try {
+            current = forecast;
+            if (current != null && !current.isExpired(staleTolerance, clock.instant())) {
+                return current;
+            }
+            // 앞에서 기다리던 호출이 방금 실패했다면 같은 호출을 반복하지 않습니다.
+            checkBackoff();
+            forecast = fetchForecast();
+            failedUntil = null;
+            return forecast;
+        } catch (RestClientException e) {
+            failedUntil = clock.instant().plus(failureBackoff);
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + e.getMessage());
+        } catch (ServerException e) {
+            if (failedUntil == null || !clock.instant().isBefore(failedUntil)) {
+                failedUntil = clock.instant().plus(failureBackoff);
+            }
+            throw e;
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
+    private void checkBackoff() {
+        Instant until = failedUntil;
+        if (until != null && clock.instant().isBefore(until)) {
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private Forecast fetchForecast() {
         ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+                restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
@@ -33,28 +177,34 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
+        Map<MonthDay, String> weatherByDay = new HashMap<>();
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+            if (weatherDto.getDate() == null || weatherDto.getWeather() == null) {
+                continue;
+            }
+            try {
+                weatherByDay.putIfAbsent(MonthDay.parse(weatherDto.getDate(), DATE_FORMATTER), weatherDto.getWeather());
+            } catch (DateTimeParseException e) {
+                log.warn("날짜 형식이 올바르지 않은 날씨 데이터를 건너뜁니다. date={}", weatherDto.getDate());
             }
         }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return new Forecast(Map.copyOf(weatherByDay), clock.instant());
     }
 
-    private URI buildWeatherApiUri() {
+    private static URI buildWeatherApiUri(String baseUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
+                .fromUriString(baseUrl)
+                .path(WEATHER_PATH)
                 .encode()
                 .build()
                 .toUri();
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private record Forecast(Map<MonthDay, String> weatherByDay, Instant fetchedAt) {
+
+        boolean isExpired(Duration staleTolerance, Instant now) {
+            return fetchedAt.plus(staleTolerance).isBefore(now);
+        }
     }
 }
@@ -0,0 +1,78 @@
+package org.example.expert.config;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업마다 가상 스레드를 만들되, 플랫폼 스레드 풀(poolSize + 대기열 queueCapacity)과 같은 한도를 지키는 실행기.
+ * 받아 둔 작업이 poolSize + queueCapacity 건이면 새 작업은 RejectedExecutionException 으로 거절하고,
+ * 받아 둔 작업 중 동시에 실행되는 것은 poolSize 건까지만입니다. (나머지 가상 스레드는 차례를 기다립니다)
+ */
+class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final Semaphore accepted;
+    private final Semaphore running;
+
+    BoundedVirtualThreadExecutor(String threadNamePrefix, int poolSize, int queueCapacity) {
+        this.delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        this.accepted = new Semaphore(poolSize + queueCapacity);
+        this.running = new Semaphore(poolSize);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (!accepted.tryAcquire()) {
+            throw new RejectedExecutionException("대기 중인 작업이 가득 찼습니다.");
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    running.acquire();
+                    try {
+                        command.run();
+                    } finally {
+                        running.release();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    accepted.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            accepted.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리와 스케줄러뿐 아니라
+ * I/O 위주의 백그라운드 작업도 가상 스레드에서 실행합니다.
+ * bcrypt 처럼 CPU 를 쓰는 작업은 가상 스레드로 얻는 이득이 없으므로 PasswordEncoder 의 플랫폼 스레드 풀을 그대로 사용합니다.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    private final boolean virtualThreadsEnabled;
+
+    public ExecutorConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+    }
+
+    // 날씨 보강 작업 전용 풀: 외부 API 가 느려져도 요청 스레드나 다른 작업에 영향을 주지 않도록 분리합니다.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService weatherEnrichmentExecutor(
+            @Value("${weather.enrichment.pool-size:2}") int poolSize,
+            @Value("${weather.enrichment.queue-capacity:16}") int queueCapacity
+    ) {
+        if (virtualThreadsEnabled) {
+            // 가상 스레드에서도 외부 API 동시 호출 수와 대기 한도는 플랫폼 풀과 같게 유지하고, 가득 차면 거절합니다.
+            return new BoundedVirtualThreadExecutor("weather-enrichment-", poolSize, queueCapacity);
+        }
+        return new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("weather-enrichment-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // 댓글 일괄 삭제 작업 전용 풀: 큰 삭제가 동시에 여러 개 돌며 DB 를 붙잡지 않도록 한 번에 하나씩만 실행하고, 나머지는 대기열에서 기다립니다.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService commentModerationExecutor(
+            @Value("${comment.moderation.queue-capacity:8}") int queueCapacity
+    ) {
+        return new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("comment-moderation-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.expert.domain.common.enums.StreamFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 행 Stream 을 한 건씩 직렬화해 바로 응답으로 내보냅니다.
+ * 목록 전체를 메모리에 올리지 않으므로 결과 크기와 상관없이 버퍼 크기만큼의 메모리만 사용합니다.
+ */
+@Component
+public class JsonStreamWriter {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final ObjectWriter objectWriter;
+
+    public JsonStreamWriter(ObjectMapper objectMapper) {
+        this.objectWriter = objectMapper.writer();
+    }
+
+    public long write(Stream<?> rows, StreamFormat format, OutputStream outputStream) throws IOException {
+        // 응답 스트림은 서블릿 컨테이너가 닫으므로 여기서는 flush 만 합니다.
+        BufferedOutputStream out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        boolean jsonArray = format == StreamFormat.JSON;
+        long count = 0;
+
+        if (jsonArray) {
+            out.write('[');
+        }
+        Iterator<?> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            if (jsonArray && count > 0) {
+                out.write(',');
+            }
+            out.write(objectWriter.writeValueAsBytes(iterator.next()));
+            if (!jsonArray) {
+                out.write('\n');
+            }
+            count++;
+        }
+        if (jsonArray) {
+            out.write(']');
+        }
+        out.flush();
+        return count;
+    }
+}
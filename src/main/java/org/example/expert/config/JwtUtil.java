@@ -1,6 +1,7 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -25,13 +26,22 @@ public class JwtUtil {
 
     @Value("${jwt.secret.key}")
     private String secretKey;
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private int claimsCacheMaxSize;
     private Key key;
+    private JwtParser jwtParser;
+    private VerifiedClaimsCache claimsCache;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        // JwtParser 는 불변이고 thread-safe 하므로 요청마다 만들지 않고 공유합니다.
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        claimsCache = new VerifiedClaimsCache(claimsCacheMaxSize);
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
@@ -56,10 +66,18 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims cached = claimsCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 서명 검증이나 만료 검사에 실패하면 예외가 그대로 전파되고 캐시에는 남지 않습니다.
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        claimsCache.put(token, claims);
+        return claims;
+    }
+
+    public VerifiedClaimsCache getClaimsCache() {
+        return claimsCache;
     }
 }
@@ -1,17 +1,143 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bcrypt 해시는 CPU 를 많이 쓰므로 요청 스레드가 아닌 코어 수 크기의 전용 풀에서 실행합니다.
+ * 대기열이 가득 차면 즉시 ServiceUnavailableException(503) 으로 거절해 다른 API 가 굶지 않도록 합니다.
+ */
+@Slf4j
 @Component
 public class PasswordEncoder {
 
+    private static final int MAX_COST = 14;
+    private static final char[] CALIBRATION_PASSWORD = "calibration-Password1".toCharArray();
+
+    private final ThreadPoolExecutor hashingExecutor;
+    private final long targetMillisPerHash;
+    private volatile int cost = BCrypt.MIN_COST;
+
+    public PasswordEncoder(
+            @Value("${password.bcrypt.target-millis:100}") long targetMillisPerHash,
+            @Value("${password.bcrypt.queue-capacity:64}") int queueCapacity
+    ) {
+        int poolSize = Runtime.getRuntime().availableProcessors();
+        this.hashingExecutor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("bcrypt-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.targetMillisPerHash = targetMillisPerHash;
+    }
+
+    // 기동 시 해시 한 번이 targetMillisPerHash 를 넘지 않는 가장 높은 cost 를 찾습니다.
+    @PostConstruct
+    public void calibrate() {
+        int calibrated = BCrypt.MIN_COST;
+        for (int candidate = BCrypt.MIN_COST; candidate <= MAX_COST; candidate++) {
+            long start = System.nanoTime();
+            BCrypt.withDefaults().hash(candidate, CALIBRATION_PASSWORD);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (elapsedMillis > targetMillisPerHash) {
+                break;
+            }
+            calibrated = candidate;
+        }
+        cost = calibrated;
+        log.info("bcrypt cost 를 {} 로 설정했습니다. (목표 {}ms/hash)", calibrated, targetMillisPerHash);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        int currentCost = cost;
+        return runOnHashingPool(() -> BCrypt.withDefaults().hashToString(currentCost, rawPassword.toCharArray()));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return runOnHashingPool(() -> {
+            BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
+            return result.verified;
+        });
+    }
+
+    // 저장된 해시의 cost 가 현재 설정보다 낮으면 로그인 성공 시 다시 해시해야 합니다. ($2a$10$... 형식)
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < cost;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    // 대량 가입용: 풀 크기만큼씩 나눠 제출해 로그인 요청이 쓸 대기열 자리를 남겨 둡니다.
+    public List<String> encodeAll(List<String> rawPasswords) {
+        int currentCost = cost;
+        int waveSize = hashingExecutor.getCorePoolSize();
+        List<String> encodedPasswords = new ArrayList<>(rawPasswords.size());
+
+        for (int from = 0; from < rawPasswords.size(); from += waveSize) {
+            List<Future<String>> futures = new ArrayList<>(waveSize);
+            for (String rawPassword : rawPasswords.subList(from, Math.min(from + waveSize, rawPasswords.size()))) {
+                futures.add(submit(() -> BCrypt.withDefaults().hashToString(currentCost, rawPassword.toCharArray())));
+            }
+            for (Future<String> future : futures) {
+                encodedPasswords.add(await(future));
+            }
+        }
+        return encodedPasswords;
+    }
+
+    private <T> T runOnHashingPool(Callable<T> task) {
+        return await(submit(task));
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return hashingExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServerException("비밀번호 처리 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("비밀번호 처리에 실패했습니다.");
+        }
     }
 }
@@ -0,0 +1,62 @@
+package org.example.expert.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.querybudget.QueryBudgetFilter;
+import org.example.expert.querybudget.QueryCountingEventListener;
+import org.example.expert.querybudget.QueryCountingStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청/테스트 단위로 SQL 문장 수, 엔티티 로딩 수, 지연 컬렉션 초기화 수를 세는 장치를 Hibernate 에 붙입니다.
+ * 집계는 QueryCounter 범위가 열린 스레드에서만 일어나며, 요청 단위 범위는 query.budget.enabled=true 일 때만 엽니다.
+ * 테스트에서는 @MaxQueries 가 범위를 엽니다. (@DataJpaTest 에서는 이 설정을 @Import 해야 합니다)
+ */
+@Configuration
+public class QueryBudgetConfig {
+
+    private final boolean enabled;
+    private final int maxStatements;
+
+    public QueryBudgetConfig(
+            @Value("${query.budget.enabled:false}") boolean enabled,
+            @Value("${query.budget.max-statements:10}") int maxStatements
+    ) {
+        this.enabled = enabled;
+        this.maxStatements = maxStatements;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+    }
+
+    // 엔티티 로딩/컬렉션 초기화 이벤트는 SessionFactory 가 만들어진 뒤 리스너 그룹에 덧붙입니다.
+    @Bean
+    public QueryCountingEventListener queryCountingEventListener(EntityManagerFactory entityManagerFactory) {
+        QueryCountingEventListener listener = new QueryCountingEventListener();
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, listener);
+        registry.appendListeners(EventType.INIT_COLLECTION, listener);
+        return listener;
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter() {
+        FilterRegistrationBean<QueryBudgetFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new QueryBudgetFilter(maxStatements));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setEnabled(enabled);
+
+        return registrationBean;
+    }
+}
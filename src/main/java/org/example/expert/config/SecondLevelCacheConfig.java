@@ -0,0 +1,72 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * 유저 엔티티/이메일(natural id) 조회용 Hibernate 2차 캐시를 Caffeine(JCache) 위에 구성합니다.
+ * 리전마다 최대 개수(user.cache.max-size)와 TTL(user.cache.ttl)로 제한하며, user.cache.enabled=false 로 끌 수 있습니다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String USER_REGION = "users";
+    public static final String USER_EMAIL_REGION = "users-by-email";
+
+    private final boolean enabled;
+    private final long maxSize;
+    private final Duration ttl;
+
+    public SecondLevelCacheConfig(
+            @Value("${user.cache.enabled:true}") boolean enabled,
+            @Value("${user.cache.max-size:10000}") long maxSize,
+            @Value("${user.cache.ttl:PT10M}") Duration ttl
+    ) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            if (!enabled) {
+                return;
+            }
+            // 히트율을 관리자 API 로 확인하기 위해 캐시를 쓸 때만 통계를 수집합니다.
+            // 통계를 켜면 세션이 닫힐 때마다 세션 지표가 INFO 로 찍히므로 그 로그는 끕니다.
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, userCacheManager());
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+        };
+    }
+
+    private CacheManager userCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+
+        // 같은 JVM 에서 컨텍스트가 다시 뜨는 경우(테스트 등) 기본 CacheManager 에 리전이 이미 있을 수 있습니다.
+        for (String region : new String[]{USER_REGION, USER_EMAIL_REGION}) {
+            if (cacheManager.getCache(region) == null) {
+                cacheManager.createCache(region, configuration);
+            }
+        }
+        return cacheManager;
+    }
+}
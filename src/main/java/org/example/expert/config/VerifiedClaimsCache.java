@@ -0,0 +1,103 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증을 마친 JWT 의 claims 를 토큰 만료(exp) 시각까지만 보관하는 캐시.
+ * 원본 토큰 대신 SHA-256 digest 를 키로 사용합니다. Caffeine 이 항목마다 exp 로 정한 만료 시각을 지키고,
+ * maxSize 를 넘으면 자주 쓰이지 않는 항목부터 밀어냅니다.
+ */
+public class VerifiedClaimsCache {
+
+    private final int maxSize;
+    private final Clock clock;
+    private final Cache<String, Claims> cache;
+
+    public VerifiedClaimsCache(int maxSize) {
+        this(maxSize, Clock.systemUTC(), Ticker.systemTicker(), null);
+    }
+
+    VerifiedClaimsCache(int maxSize, Clock clock, Ticker ticker, Executor executor) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .ticker(ticker)
+                .recordStats();
+        if (executor != null) {
+            builder.executor(executor);
+        }
+        this.cache = builder.expireAfter(new ExpiresAtTokenExp()).build();
+    }
+
+    public Claims get(String token) {
+        return cache.getIfPresent(digest(token));
+    }
+
+    public void put(String token, Claims claims) {
+        if (claims.getExpiration() == null || maxSize <= 0) {
+            // 만료 시각이 없는 토큰은 언제 무효화해야 할지 알 수 없으므로 캐시하지 않습니다.
+            return;
+        }
+        cache.put(digest(token), claims);
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // 테스트에서 만료/용량 초과로 밀려난 항목이 바로 정리되도록 호출합니다.
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 항목마다 남은 수명을 "exp - 지금" 으로 정합니다. 읽거나 덮어써도 수명은 늘어나지 않습니다.
+    private class ExpiresAtTokenExp implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - clock.millis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,27 +1,48 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import org.example.expert.aop.AspectPractice;
+import org.example.expert.aop.MetricsAspect;
+import org.example.expert.audit.AuditLog;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
-@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final Duration asyncRequestTimeout;
+
+    public WebConfig(@Value("${web.async.request-timeout:PT10M}") Duration asyncRequestTimeout) {
+        this.asyncRequestTimeout = asyncRequestTimeout;
+    }
+
     // ArgumentResolver 등록
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(new AuthUserArgumentResolver());
     }
 
+    // StreamingResponseBody 응답은 비동기로 처리되므로, 큰 목록도 끝까지 내려갈 수 있게 제한 시간을 늘립니다.
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+    }
+
+    @Bean
+    public AspectPractice getAspectPracticeAop(AuditLog auditLog) {
+        return new AspectPractice(auditLog);
+    }
+
     @Bean
-    public AspectPractice getAspectPracticeAop() {
-        return new AspectPractice();
+    public MetricsAspect metricsAspect(MeterRegistry meterRegistry) {
+        return new MetricsAspect(meterRegistry);
     }
 }
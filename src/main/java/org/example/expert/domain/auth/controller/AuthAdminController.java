@@ -0,0 +1,26 @@
+package org.example.expert.domain.auth.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.VerifiedClaimsCache;
+import org.example.expert.domain.auth.dto.response.TokenCacheStatsResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class AuthAdminController {
+
+    private final JwtUtil jwtUtil;
+
+    @GetMapping("/admin/auth/token-cache")
+    public ResponseEntity<TokenCacheStatsResponse> getTokenCacheStats() {
+        VerifiedClaimsCache claimsCache = jwtUtil.getClaimsCache();
+        return ResponseEntity.ok(new TokenCacheStatsResponse(
+                claimsCache.getHitCount(),
+                claimsCache.getMissCount(),
+                claimsCache.size()
+        ));
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.auth.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TokenCacheStatsResponse {
+
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRatio;
+    private final long size;
+
+    public TokenCacheStatsResponse(long hitCount, long missCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        long total = hitCount + missCount;
+        this.hitRatio = total == 0 ? 0.0 : (double) hitCount / total;
+        this.size = size;
+    }
+}
@@ -47,6 +47,7 @@ public class AuthService {
         return new SignupResponse(bearerToken);
     }
 
+    @Transactional
     public SigninResponse signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
@@ -56,6 +57,11 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 예전 cost 로 저장된 해시는 평문을 알고 있는 지금 새 cost 로 다시 저장합니다.
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            user.changePassword(passwordEncoder.encode(signinRequest.getPassword()));
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
 
         return new SigninResponse(bearerToken);
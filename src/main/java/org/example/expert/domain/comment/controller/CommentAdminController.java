@@ -1,13 +1,21 @@
 package org.example.expert.domain.comment.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.annotation.TrackTime;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentModerationJobResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
-import org.example.expert.domain.common.annotation.Auth;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.net.URI;
+
 @RestController
 @RequiredArgsConstructor
 public class CommentAdminController {
@@ -19,4 +27,22 @@ public class CommentAdminController {
     public void deleteComment(@PathVariable long commentId) {
         commentAdminService.deleteComment(commentId);
     }
+
+    // 요청 안에서 끝나면 200, 백그라운드로 넘어가면 202 와 함께 진행 상황 조회 주소(Location)를 돌려줍니다.
+    @TrackTime
+    @PostMapping("/admin/comments/moderation-jobs")
+    public ResponseEntity<CommentModerationJobResponse> deleteComments(@Valid @RequestBody CommentBulkDeleteRequest commentBulkDeleteRequest) {
+        CommentModerationJobResponse job = commentAdminService.deleteComments(commentBulkDeleteRequest);
+        if (job.getStatus() == CommentModerationJobResponse.Status.COMPLETED) {
+            return ResponseEntity.ok(job);
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/admin/comments/moderation-jobs/" + job.getJobId()))
+                .body(job);
+    }
+
+    @GetMapping("/admin/comments/moderation-jobs/{jobId}")
+    public ResponseEntity<CommentModerationJobResponse> getModerationJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(commentAdminService.getModerationJob(jobId));
+    }
 }
@@ -3,13 +3,16 @@ package org.example.expert.domain.comment.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.enums.StreamFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -32,4 +35,26 @@ public class CommentController {
     public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
+
+    // cursor 를 빈 값으로 보내면 첫 페이지부터, 이전 응답의 nextCursor 를 보내면 그 이후 댓글만 오래된 순으로 조회합니다.
+    @GetMapping(value = "/todos/{todoId}/comments", params = {"cursor", "!stream"})
+    public ResponseEntity<CommentCursorResponse> getCommentsByCursor(
+            @PathVariable long todoId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(todoId, cursor, size));
+    }
+
+    // stream=json|ndjson 이면 목록을 메모리에 모으지 않고 읽는 즉시 응답으로 내보냅니다.
+    @GetMapping(value = "/todos/{todoId}/comments", params = {"stream", "!cursor"})
+    public ResponseEntity<StreamingResponseBody> streamComments(
+            @PathVariable long todoId,
+            @RequestParam String stream
+    ) {
+        StreamFormat format = StreamFormat.of(stream);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(outputStream -> commentService.streamComments(todoId, format, outputStream));
+    }
 }
@@ -0,0 +1,24 @@
+package org.example.expert.domain.comment.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 관리자 댓글 일괄 삭제 대상. commentIds, userId, todoId 중 하나만 지정하며, 기간(from 이상, to 미만)은 userId/todoId 와 함께만 씁니다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBulkDeleteRequest {
+
+    @Size(max = 100_000)
+    private List<@NotNull Long> commentIds;
+    private Long userId;
+    private Long todoId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+}
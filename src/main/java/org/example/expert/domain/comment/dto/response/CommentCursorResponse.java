@@ -0,0 +1,20 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentCursorResponse {
+
+    private final List<CommentResponse> content;
+    // 마지막으로 받은 댓글의 위치. hasNext 가 false 여도 내려주므로, 나중에 이 커서로 다시 조회하면 새로 달린 댓글만 받습니다.
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CommentCursorResponse(List<CommentResponse> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
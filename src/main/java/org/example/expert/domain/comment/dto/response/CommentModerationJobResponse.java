@@ -0,0 +1,36 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class CommentModerationJobResponse {
+
+    private final String jobId;
+    private final Status status;
+    private final String target;
+    private final long estimatedCount; // 시작 시점에 센 대상 건수 (그 뒤에 달린 댓글은 포함되지 않을 수 있습니다)
+    private final long deletedCount;
+    private final long chunkCount;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final String error;
+
+    public CommentModerationJobResponse(String jobId, Status status, String target, long estimatedCount, long deletedCount,
+                                        long chunkCount, LocalDateTime startedAt, LocalDateTime finishedAt, String error) {
+        this.jobId = jobId;
+        this.status = status;
+        this.target = target;
+        this.estimatedCount = estimatedCount;
+        this.deletedCount = deletedCount;
+        this.chunkCount = chunkCount;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.error = error;
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -1,14 +1,61 @@
 package org.example.expert.domain.comment.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.repository.TodoChildCount;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, JpaSpecificationExecutor<Comment>, CommentRepositoryCustom {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // 응답에 필요한 컬럼만 조회하므로 password 같은 컬럼을 읽지 않고, 영속성 컨텍스트에 스냅샷도 남기지 않습니다.
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.todo.id = :todoId " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // keyset 페이지네이션: (todo_id, created_at, id) 복합 인덱스 순서대로 오래된 댓글부터 읽습니다.
+    // 커서를 만들 createdAt 이 필요해 엔티티로 읽되, 읽기 전용으로 로딩해 dirty checking 스냅샷을 만들지 않습니다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.todo.id = :todoId " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findFirstPageByTodoId(@Param("todoId") Long todoId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.todo.id = :todoId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findNextPageByTodoId(@Param("todoId") Long todoId, @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT c.todo.id AS todoId, COUNT(c) AS childCount FROM Comment c WHERE c.todo.id IN :todoIds GROUP BY c.todo.id")
+    List<TodoChildCount> countByTodoIds(@Param("todoIds") Collection<Long> todoIds);
+
+    // 스트리밍 응답용: 결과를 한 번에 읽지 않고 fetch size 단위로 가져옵니다. (MySQL 은 useCursorFetch=true 일 때 적용됩니다)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId ORDER BY c.createdAt ASC, c.id ASC")
+    Stream<Comment> streamByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 엔티티를 읽지 않고 DELETE 한 번으로 지웁니다. (deleteById 는 SELECT 후 DELETE 로 두 번 실행됩니다)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :commentIds")
+    int deleteByIdIn(@Param("commentIds") Collection<Long> commentIds);
 }
@@ -0,0 +1,10 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+    List<Long> findIdsAfter(Specification<Comment> spec, long afterId, int limit);
+}
@@ -0,0 +1,37 @@
+package org.example.expert.domain.comment.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 관리자 일괄 삭제용: 조건에 맞는 댓글 ID 만 id 순서로 limit 건 읽습니다. (afterId 다음부터 이어 읽는 keyset 방식)
+    // JpaSpecificationExecutor 는 엔티티 전체를 읽으므로 ID 만 select 하도록 Criteria 쿼리를 직접 만듭니다.
+    @Override
+    public List<Long> findIdsAfter(Specification<Comment> spec, long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Comment> root = query.from(Comment.class);
+
+        Predicate afterIdPredicate = cb.greaterThan(root.get("id"), afterId);
+        Predicate specPredicate = spec.toPredicate(root, query, cb);
+        query.select(root.get("id"))
+                .where(specPredicate == null ? afterIdPredicate : cb.and(specPredicate, afterIdPredicate))
+                .orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
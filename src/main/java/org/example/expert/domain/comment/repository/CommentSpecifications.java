@@ -0,0 +1,41 @@
+package org.example.expert.domain.comment.repository;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 댓글 일괄 삭제 대상 조건. 값이 없으면 null 조건을 돌려 WHERE 절에서 빠지므로,
+ * "(:from IS NULL OR ...)" 처럼 옵티마이저가 인덱스를 포기하게 만드는 조건이 생기지 않습니다.
+ * todoId(+기간) → idx_comments_todo_id_created_at_id, userId(+기간) → user_id 외래 키 인덱스
+ */
+public final class CommentSpecifications {
+
+    private CommentSpecifications() {
+    }
+
+    // 관리자 일괄 삭제의 COUNT 와 ID chunk 조회가 함께 쓰는 조건입니다.
+    public static Specification<Comment> moderationTarget(Long userId, Long todoId, LocalDateTime from, LocalDateTime to) {
+        return Specification.where(userIdEquals(userId))
+                .and(todoIdEquals(todoId))
+                .and(createdAtOrAfter(from))
+                .and(createdBefore(to));
+    }
+
+    public static Specification<Comment> userIdEquals(Long userId) {
+        return (root, query, cb) -> userId == null ? null : cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<Comment> todoIdEquals(Long todoId) {
+        return (root, query, cb) -> todoId == null ? null : cb.equal(root.get("todo").get("id"), todoId);
+    }
+
+    public static Specification<Comment> createdAtOrAfter(LocalDateTime from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<Comment> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThan(root.get("createdAt"), to);
+    }
+}
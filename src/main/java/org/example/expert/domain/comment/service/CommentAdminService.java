@@ -1,18 +1,193 @@
 package org.example.expert.domain.comment.service;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentModerationJobResponse;
+import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.repository.CommentSpecifications;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.NotFoundException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 관리자 댓글 삭제. 일괄 삭제는 대상 ID 를 chunk 크기만큼 읽고 DELETE ... WHERE id IN (...) 한 번으로 지우는 짧은 트랜잭션을 반복하므로,
+ * 수만 건을 지워도 한 트랜잭션이 오래 락을 잡지 않습니다.
+ * 대상이 comment.moderation.sync-limit 건 이하면 요청 안에서 끝내고, 그보다 많으면 전용 스레드에서 이어서 실행하며 진행 상황은 작업 ID 로 조회합니다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class CommentAdminService {
 
+    // 끝난 작업의 진행 상황을 조회할 수 있게 남겨 두는 시간
+    private static final Duration JOB_RETENTION = Duration.ofHours(1);
+
     private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int chunkSize;
+    private final long syncLimit;
+    private final Map<String, CommentModerationJob> jobs = new ConcurrentHashMap<>();
+
+    public CommentAdminService(
+            CommentRepository commentRepository,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("commentModerationExecutor") ExecutorService executor,
+            @Value("${comment.moderation.chunk-size:1000}") int chunkSize,
+            @Value("${comment.moderation.sync-limit:5000}") long syncLimit
+    ) {
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.syncLimit = syncLimit;
+    }
 
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        commentRepository.deleteByIdIn(List.of(commentId));
+    }
+
+    public CommentModerationJobResponse deleteComments(CommentBulkDeleteRequest request) {
+        Target target = toTarget(request);
+        CommentModerationJob job = new CommentModerationJob(UUID.randomUUID().toString(), target.describe(), target.count());
+
+        jobs.values().removeIf(finished -> finished.isExpired(LocalDateTime.now().minus(JOB_RETENTION)));
+        jobs.put(job.getJobId(), job);
+
+        if (target.count() <= syncLimit) {
+            run(job, target);
+            if (job.getStatus() == CommentModerationJobResponse.Status.FAILED) {
+                throw new ServerException("댓글 일괄 삭제 중 오류가 발생했습니다. 삭제된 건수: " + job.getDeletedCount());
+            }
+            return job.toResponse();
+        }
+
+        try {
+            executor.execute(() -> run(job, target));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            throw new ServiceUnavailableException("대기 중인 댓글 일괄 삭제 작업이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return job.toResponse();
+    }
+
+    public CommentModerationJobResponse getModerationJob(String jobId) {
+        CommentModerationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new NotFoundException("댓글 일괄 삭제 작업을 찾을 수 없습니다.");
+        }
+        return job.toResponse();
+    }
+
+    private Target toTarget(CommentBulkDeleteRequest request) {
+        List<Long> commentIds = request.getCommentIds();
+        boolean byIds = commentIds != null && !commentIds.isEmpty();
+        int targets = (byIds ? 1 : 0) + (request.getUserId() != null ? 1 : 0) + (request.getTodoId() != null ? 1 : 0);
+        if (targets != 1) {
+            throw new InvalidRequestException("commentIds, userId, todoId 중 하나만 지정해 주세요.");
+        }
+
+        LocalDateTime from = request.getFrom();
+        LocalDateTime to = request.getTo();
+        if (byIds) {
+            if (from != null || to != null) {
+                throw new InvalidRequestException("기간 조건은 userId 또는 todoId 와 함께만 쓸 수 있습니다.");
+            }
+            // 정렬해 두면 chunk 마다 인접한 PK 범위를 지우게 됩니다.
+            List<Long> sortedIds = commentIds.stream().distinct().sorted().toList();
+            return new Target("commentIds(" + sortedIds.size() + ")", sortedIds.size(), sortedIds, null);
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidRequestException("from 은 to 보다 앞이어야 합니다.");
+        }
+
+        // 값이 없는 조건은 WHERE 절에서 빠집니다. (todoId + 기간은 idx_comments_todo_id_created_at_id 범위 스캔)
+        Specification<Comment> spec = CommentSpecifications.moderationTarget(request.getUserId(), request.getTodoId(), from, to);
+        String owner = request.getUserId() != null ? "userId=" + request.getUserId() : "todoId=" + request.getTodoId();
+        return new Target(describe(owner, from, to), commentRepository.count(spec), null,
+                (afterId, limit) -> commentRepository.findIdsAfter(spec, afterId, limit));
+    }
+
+    private void run(CommentModerationJob job, Target target) {
+        job.start();
+        try {
+            if (target.commentIds() != null) {
+                deleteByIds(job, target.commentIds());
+            } else {
+                deleteByQuery(job, target.idQuery());
+            }
+            job.complete();
+            log.info("댓글 일괄 삭제 완료. jobId={}, target={}, deleted={}", job.getJobId(), target.describe(), job.getDeletedCount());
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            log.error("댓글 일괄 삭제 실패. jobId={}, target={}, deleted={}", job.getJobId(), target.describe(), job.getDeletedCount(), e);
+        }
+    }
+
+    private void deleteByIds(CommentModerationJob job, List<Long> commentIds) {
+        for (int from = 0; from < commentIds.size(); from += chunkSize) {
+            List<Long> chunk = commentIds.subList(from, Math.min(from + chunkSize, commentIds.size()));
+            Integer deleted = transactionTemplate.execute(status -> commentRepository.deleteByIdIn(chunk));
+            job.chunkDeleted(deleted == null ? 0 : deleted);
+        }
+    }
+
+    // 지운 마지막 ID 다음부터 다시 읽으므로, 이미 지운 구간을 다시 훑지 않습니다.
+    private void deleteByQuery(CommentModerationJob job, IdQuery idQuery) {
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            Chunk chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = idQuery.next(cursor, chunkSize);
+                if (ids.isEmpty()) {
+                    return new Chunk(cursor, 0, 0);
+                }
+                return new Chunk(ids.get(ids.size() - 1), ids.size(), commentRepository.deleteByIdIn(ids));
+            });
+            if (chunk == null || chunk.selected() == 0) {
+                return;
+            }
+            job.chunkDeleted(chunk.deleted());
+            if (chunk.selected() < chunkSize) {
+                return;
+            }
+            afterId = chunk.lastId();
+        }
+    }
+
+    private static String describe(String target, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return target;
+        }
+        return target + " [" + (from != null ? from : "") + ", " + (to != null ? to : "") + ")";
+    }
+
+    @FunctionalInterface
+    private interface IdQuery {
+        List<Long> next(long afterId, int limit);
+    }
+
+    // commentIds 가 있으면 ID 목록 삭제, 없으면 idQuery 로 대상을 찾아 삭제합니다.
+    private record Target(String describe, long count, List<Long> commentIds, IdQuery idQuery) {
+    }
+
+    private record Chunk(long lastId, int selected, int deleted) {
     }
 }
@@ -0,0 +1,73 @@
+package org.example.expert.domain.comment.service;
+
+import org.example.expert.domain.comment.dto.response.CommentModerationJobResponse;
+import org.example.expert.domain.comment.dto.response.CommentModerationJobResponse.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 일괄 삭제 작업 하나의 진행 상태. 삭제는 작업 스레드 하나만 기록하고, 조회 API 는 다른 스레드에서 읽으므로 필드는 volatile 입니다.
+ */
+class CommentModerationJob {
+
+    private final String jobId;
+    private final String target;
+    private final long estimatedCount;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile long deletedCount;
+    private volatile long chunkCount;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    CommentModerationJob(String jobId, String target, long estimatedCount) {
+        this.jobId = jobId;
+        this.target = target;
+        this.estimatedCount = estimatedCount;
+    }
+
+    String getJobId() {
+        return jobId;
+    }
+
+    Status getStatus() {
+        return status;
+    }
+
+    long getDeletedCount() {
+        return deletedCount;
+    }
+
+    void start() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    void chunkDeleted(int deleted) {
+        deletedCount += deleted;
+        chunkCount++;
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    // 끝난 지 오래된 작업은 목록에서 지웁니다. 대기/진행 중인 작업은 지우지 않습니다.
+    boolean isExpired(LocalDateTime threshold) {
+        LocalDateTime finished = finishedAt;
+        return finished != null && finished.isBefore(threshold);
+    }
+
+    CommentModerationJobResponse toResponse() {
+        return new CommentModerationJobResponse(jobId, status, target, estimatedCount, deletedCount, chunkCount,
+                startedAt, finishedAt, error);
+    }
+}
@@ -1,30 +1,43 @@
 package org.example.expert.domain.comment.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.JsonStreamWriter;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.enums.StreamFormat;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final EntityManager entityManager;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
@@ -48,18 +61,66 @@ public class CommentService {
     }
 
     public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+        return commentRepository.findResponsesByTodoId(todoId);
+    }
+
+    public CommentCursorResponse getCommentsByCursor(long todoId, String cursor, int size) {
+        int boundedSize = boundPageSize(size);
+
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 한 건 더 조회합니다.
+        Pageable limit = PageRequest.of(0, boundedSize + 1);
+
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+        List<Comment> comments;
+        if (hasCursor) {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            comments = commentRepository.findNextPageByTodoId(todoId, keysetCursor.getTimestamp(), keysetCursor.getId(), limit);
+        } else {
+            comments = commentRepository.findFirstPageByTodoId(todoId, limit);
+        }
+
+        boolean hasNext = comments.size() > boundedSize;
+        List<Comment> content = hasNext ? comments.subList(0, boundedSize) : comments;
+
+        // 오래된 순으로 읽으므로 마지막 페이지에서도 커서를 돌려주어, 이후에는 새로 달린 댓글만 이어서 받을 수 있게 합니다.
+        String nextCursor = hasCursor ? cursor : null;
+        if (!content.isEmpty()) {
+            Comment last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CommentCursorResponse(
+                content.stream().map(this::toCommentResponse).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+
+    // 한 행씩 응답으로 내보내고 바로 영속성 컨텍스트에서 분리해, 댓글 수와 상관없이 메모리 사용량을 일정하게 유지합니다.
+    public long streamComments(long todoId, StreamFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<Comment> comments = commentRepository.streamByTodoIdWithUser(todoId)) {
+            return jsonStreamWriter.write(comments.map(comment -> {
+                CommentResponse response = toCommentResponse(comment);
+                entityManager.detach(comment);
+                entityManager.detach(comment.getUser());
+                return response;
+            }), format, outputStream);
+        }
+    }
+
+    private int boundPageSize(int size) {
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
         }
-        return dtoList;
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private CommentResponse toCommentResponse(Comment comment) {
+        User user = comment.getUser();
+        return new CommentResponse(
+                comment.getId(),
+                comment.getContents(),
+                new UserResponse(user.getId(), user.getEmail())
+        );
     }
 }
@@ -0,0 +1,52 @@
+package org.example.expert.domain.common.dto;
+
+import java.util.Locale;
+
+/**
+ * Accept-Encoding 헤더 해석. "gzip;q=0" 처럼 명시적으로 거부한 코딩은 허용하지 않고,
+ * 코딩이 나열되지 않았으면 "*" 의 q 값을 따릅니다. (RFC 9110 12.5.3)
+ */
+public final class AcceptEncoding {
+
+    private AcceptEncoding() {
+    }
+
+    public static boolean accepts(String header, String coding) {
+        if (header == null) {
+            return false;
+        }
+
+        Double codingQuality = null;
+        Double wildcardQuality = null;
+        for (String element : header.split(",")) {
+            String[] parts = element.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if (name.equals(coding) || name.equals("x-" + coding)) {
+                codingQuality = codingQuality == null ? quality : Math.max(codingQuality, quality);
+            } else if (name.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+
+        if (codingQuality != null) {
+            return codingQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    // q 파라미터가 없으면 1, 형식이 잘못되었으면 받지 않는 것으로 봅니다.
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && (parameter.startsWith("q=") || parameter.startsWith("Q="))) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
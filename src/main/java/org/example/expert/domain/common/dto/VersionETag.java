@@ -0,0 +1,45 @@
+package org.example.expert.domain.common.dto;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+/**
+ * 엔티티 @Version 값으로 만든 강한(strong) ETag.
+ * 본문을 직렬화해 해시하지 않으므로 버전 컬럼만 조회해도 클라이언트가 가진 ETag 와 비교할 수 있습니다.
+ */
+public final class VersionETag {
+
+    private VersionETag() {
+    }
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // If-None-Match 는 여러 ETag 를 쉼표로 나열할 수 있고, 약한 비교이므로 W/ 접두사는 무시합니다.
+    public static boolean matches(String ifNoneMatch, long version) {
+        String current = of(version);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-Match 에는 조회 때 받은 ETag 하나만 허용합니다. (약한 ETag 와 "*" 는 어느 버전을 수정하려는지 알 수 없습니다)
+    public static long parse(String header) {
+        String value = header == null ? "" : header.trim();
+        if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+            throw new InvalidRequestException("If-Match 에는 조회 시 받은 ETag 를 그대로 넣어 주세요.");
+        }
+        try {
+            return Long.parseLong(value.substring(1, value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("If-Match 에는 조회 시 받은 ETag 를 그대로 넣어 주세요.");
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.expert.domain.common.exception;
+
+public class ForbiddenException extends RuntimeException {
+
+    public ForbiddenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.expert.domain.common.exception;
+
+public class NotFoundException extends RuntimeException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
@@ -4,12 +4,15 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.enums.StreamFormat;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -28,11 +31,34 @@ public class ManagerController {
         return ResponseEntity.ok(managerService.saveManager(authUser, todoId, managerSaveRequest));
     }
 
+    // 여러 담당자를 한 번에 등록합니다. 유저 확인은 IN 쿼리 한 번, INSERT 는 JDBC batch 로 실행됩니다.
+    @PostMapping("/todos/{todoId}/managers:batch")
+    public ResponseEntity<List<ManagerSaveResponse>> saveManagers(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody ManagerBatchSaveRequest managerBatchSaveRequest
+    ) {
+        return ResponseEntity.ok(managerService.saveManagers(authUser, todoId, managerBatchSaveRequest));
+    }
+
     @GetMapping("/todos/{todoId}/managers")
     public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId) {
         return ResponseEntity.ok(managerService.getManagers(todoId));
     }
 
+    // stream=json|ndjson 이면 목록을 메모리에 모으지 않고 읽는 즉시 응답으로 내보냅니다.
+    @GetMapping(value = "/todos/{todoId}/managers", params = "stream")
+    public ResponseEntity<StreamingResponseBody> streamMembers(
+            @PathVariable long todoId,
+            @RequestParam String stream
+    ) {
+        StreamFormat format = StreamFormat.of(stream);
+        managerService.validateTodoExists(todoId);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(outputStream -> managerService.streamManagers(todoId, format, outputStream));
+    }
+
     @DeleteMapping("/todos/{todoId}/managers/{managerId}")
     public void deleteManager(
             @Auth AuthUser authUser,
@@ -1,13 +1,43 @@
 package org.example.expert.domain.manager.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.repository.TodoChildCount;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // 일정에서 LEFT JOIN 하므로 일정 존재 확인과 담당자 조회가 쿼리 하나로 끝납니다.
+    // 결과가 없으면 일정이 없는 것이고, 담당자가 없는 일정은 id 가 null 인 행 하나가 나옵니다.
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Todo t LEFT JOIN t.managers m LEFT JOIN m.user u " +
+            "WHERE t.id = :todoId " +
+            "ORDER BY m.id ASC")
+    List<ManagerResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT m.todo.id AS todoId, COUNT(m) AS childCount FROM Manager m WHERE m.todo.id IN :todoIds GROUP BY m.todo.id")
+    List<TodoChildCount> countByTodoIds(@Param("todoIds") Collection<Long> todoIds);
+
+    // 일정 작성자 확인과 삭제를 DELETE 한 번으로 처리합니다. 0 건이면 호출한 쪽에서 원인(403/404)을 가립니다.
+    @Modifying
+    @Query("DELETE FROM Manager m " +
+            "WHERE m.id = :managerId AND m.todo.id = :todoId " +
+            "AND EXISTS (SELECT 1 FROM Todo t WHERE t.id = :todoId AND t.user.id = :userId)")
+    int deleteByIdAndTodoOwner(@Param("managerId") Long managerId, @Param("todoId") Long todoId, @Param("userId") Long userId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId ORDER BY m.id ASC")
+    Stream<Manager> streamByTodoIdWithUser(@Param("todoId") Long todoId);
 }
@@ -1,8 +1,14 @@
 package org.example.expert.domain.manager.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.JsonStreamWriter;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.enums.StreamFormat;
+import org.example.expert.domain.common.exception.ForbiddenException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.NotFoundException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
@@ -17,8 +23,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -28,6 +39,8 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final EntityManager entityManager;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
@@ -57,41 +70,95 @@ public class ManagerService {
     }
 
     public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+        List<ManagerResponse> managerResponses = managerRepository.findResponsesByTodoId(todoId);
+        if (managerResponses.isEmpty()) {
+            throw new InvalidRequestException("Todo not found");
+        }
 
         List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
+        for (ManagerResponse managerResponse : managerResponses) {
+            // 담당자가 없는 일정은 LEFT JOIN 결과로 id 가 null 인 행만 돌아옵니다.
+            if (managerResponse.getId() != null) {
+                dtoList.add(managerResponse);
+            }
         }
         return dtoList;
     }
 
-    @Transactional
-    public void deleteManager(long userId, long todoId, long managerId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new InvalidRequestException("User not found"));
+    // 응답을 쓰기 시작한 뒤에는 에러 응답으로 바꿀 수 없으므로 스트리밍 전에 일정 존재 여부를 먼저 확인합니다.
+    public void validateTodoExists(long todoId) {
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+    }
 
+    public long streamManagers(long todoId, StreamFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<Manager> managers = managerRepository.streamByTodoIdWithUser(todoId)) {
+            return jsonStreamWriter.write(managers.map(manager -> {
+                User user = manager.getUser();
+                ManagerResponse response = new ManagerResponse(manager.getId(), new UserResponse(user.getId(), user.getEmail()));
+                entityManager.detach(manager);
+                entityManager.detach(user);
+                return response;
+            }), format, outputStream);
+        }
+    }
+
+    @Transactional
+    public List<ManagerSaveResponse> saveManagers(AuthUser authUser, long todoId, ManagerBatchSaveRequest managerBatchSaveRequest) {
+        User user = User.fromAuthUser(authUser);
         Todo todo = todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
         if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
-            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+            throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
+        }
+
+        List<Long> managerUserIds = managerBatchSaveRequest.getManagerUserIds().stream().distinct().toList();
+        if (managerUserIds.contains(user.getId())) {
+            throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
+        }
+
+        // 담당자 유저는 IN 쿼리 한 번으로 확인합니다.
+        Map<Long, User> managerUsers = new HashMap<>();
+        for (User managerUser : userRepository.findAllById(managerUserIds)) {
+            managerUsers.put(managerUser.getId(), managerUser);
+        }
+        List<Long> missingUserIds = managerUserIds.stream().filter(id -> !managerUsers.containsKey(id)).toList();
+        if (!missingUserIds.isEmpty()) {
+            throw new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다. " + missingUserIds);
         }
 
-        Manager manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new InvalidRequestException("Manager not found"));
+        List<Manager> newManagers = new ArrayList<>(managerUserIds.size());
+        for (Long managerUserId : managerUserIds) {
+            newManagers.add(new Manager(managerUsers.get(managerUserId), todo));
+        }
+        // pooled sequence 로 ID 를 미리 받아 두므로 INSERT 는 hibernate.jdbc.batch_size 단위로 묶여 실행됩니다.
+        List<Manager> savedManagers = managerRepository.saveAll(newManagers);
+
+        List<ManagerSaveResponse> responses = new ArrayList<>(savedManagers.size());
+        for (Manager savedManager : savedManagers) {
+            User managerUser = savedManager.getUser();
+            responses.add(new ManagerSaveResponse(
+                    savedManager.getId(),
+                    new UserResponse(managerUser.getId(), managerUser.getEmail())
+            ));
+        }
+        return responses;
+    }
 
-        if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
-            throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
+    @Transactional
+    public void deleteManager(long userId, long todoId, long managerId) {
+        if (managerRepository.deleteByIdAndTodoOwner(managerId, todoId, userId) > 0) {
+            return;
         }
 
-        managerRepository.delete(manager);
+        // 지워진 행이 없을 때만 원인을 확인합니다.
+        Long ownerId = todoRepository.findOwnerIdById(todoId)
+                .orElseThrow(() -> new NotFoundException("Todo not found"));
+        if (!ObjectUtils.nullSafeEquals(userId, ownerId)) {
+            throw new ForbiddenException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        }
+        throw new NotFoundException("해당 일정에 등록된 담당자가 아닙니다.");
     }
 }
@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoResponseCacheStatsResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchIndexStatsResponse;
+import org.example.expert.domain.todo.service.TodoResponseCache;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoResponseCache todoResponseCache;
+
+    @GetMapping("/admin/todos/search-index")
+    public ResponseEntity<TodoSearchIndexStatsResponse> getSearchIndexStats() {
+        return ResponseEntity.ok(todoSearchIndex.getStats());
+    }
+
+    @GetMapping("/admin/todos/response-cache")
+    public ResponseEntity<TodoResponseCacheStatsResponse> getResponseCacheStats() {
+        return ResponseEntity.ok(todoResponseCache.getStats());
+    }
+}
@@ -3,15 +3,29 @@ package org.example.expert.domain.todo.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.dto.AcceptEncoding;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.VersionETag;
+import org.example.expert.domain.todo.dto.request.TodoFilterRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
+import org.example.expert.domain.todo.service.TodoResponseCache;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
@@ -29,13 +43,86 @@ public class TodoController {
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeCounts,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "latest") String sort
+    ) {
+        return ResponseEntity.ok(todoService.getTodos(page, size, includeCounts, new TodoFilterRequest(weather, from, to, sort)));
+    }
+
+    // cursor 파라미터가 있으면 keyset 페이지네이션으로 조회합니다. (첫 페이지는 cursor= 로 요청)
+    @GetMapping(value = "/todos", params = "cursor")
+    public ResponseEntity<TodoCursorResponse> getTodosByCursor(
+            @RequestParam String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
     }
 
+    // 전체 건수(COUNT) 없이 다음 페이지 존재 여부만 돌려줍니다.
+    @GetMapping("/todos/slice")
+    public ResponseEntity<TodoSliceResponse> getTodoSlice(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean approximateTotal
+    ) {
+        return ResponseEntity.ok(todoService.getTodoSlice(page, size, approximateTotal));
+    }
+
+    // 제목/내용 메모리 역색인에서 관련도 순으로 일정 ID 를 찾습니다.
+    @GetMapping("/todos/search")
+    public ResponseEntity<TodoSearchResponse> searchTodos(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(todoService.searchTodos(q, limit));
+    }
+
+    // 직렬화해 둔 바이트를 그대로 응답합니다. 캐시 적중이면 DB 와 ObjectMapper 를 거치지 않고,
+    // If-None-Match 가 ETag 와 같으면 Spring 이 본문을 쓰지 않고 304 로 바꿉니다.
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<byte[]> getTodo(
+            @PathVariable long todoId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        TodoResponseCache.Entry todo = todoService.findCachedTodo(todoId);
+        if (todo == null) {
+            // 캐시에 없으면 버전 컬럼만 먼저 조회해, 클라이언트 사본이 최신이면 엔티티를 읽지 않고 304 로 끝냅니다.
+            if (ifNoneMatch != null) {
+                long version = todoService.getTodoVersion(todoId);
+                if (VersionETag.matches(ifNoneMatch, version)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(VersionETag.of(version)).build();
+                }
+            }
+            todo = todoService.loadAndCacheTodo(todoId);
+        }
+
+        boolean gzip = todo.getGzip() != null && AcceptEncoding.accepts(acceptEncoding, "gzip");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(VersionETag.of(todo.getVersion()))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? todo.getGzip() : todo.getJson());
+    }
+
+    // If-Match 의 ETag 가 현재 버전과 다르면 412 를 돌려줍니다.
+    @PatchMapping("/todos/{todoId}")
+    public ResponseEntity<TodoResponse> updateTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @RequestHeader(HttpHeaders.IF_MATCH) String ifMatch,
+            @RequestBody TodoUpdateRequest todoUpdateRequest
+    ) {
+        TodoResponse todo = todoService.updateTodo(authUser, todoId, VersionETag.parse(ifMatch), todoUpdateRequest);
+        return ResponseEntity.ok()
+                .eTag(VersionETag.of(todo.getVersion()))
+                .body(todo);
     }
 }
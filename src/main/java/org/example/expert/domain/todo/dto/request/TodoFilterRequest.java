@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// GET /todos 의 선택 필터. from/to 는 수정일 기준이며 둘 다 포함(inclusive)입니다.
+@Getter
+@AllArgsConstructor
+public class TodoFilterRequest {
+
+    private String weather;
+    private LocalDate from;
+    private LocalDate to;
+    private String sort;
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// PATCH 이므로 보내지 않은(null) 항목은 기존 값을 유지합니다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoUpdateRequest {
+
+    private String title;
+    private String contents;
+}
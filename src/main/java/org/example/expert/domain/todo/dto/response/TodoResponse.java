@@ -1,5 +1,7 @@
 package org.example.expert.domain.todo.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
@@ -15,8 +17,31 @@ public class TodoResponse {
     private final UserResponse user;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    // includeCounts=true 로 조회했을 때만 채워집니다.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long commentCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long managerCount;
+    // 본문 대신 ETag 헤더로 내려갑니다. (단건 조회/수정에서만 채워집니다)
+    @JsonIgnore
+    private final Long version;
 
     public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, user, createdAt, modifiedAt, null, null, null);
+    }
+
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt,
+                        Long version) {
+        this(id, title, contents, weather, user, createdAt, modifiedAt, null, null, version);
+    }
+
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt,
+                        Long commentCount, Long managerCount) {
+        this(id, title, contents, weather, user, createdAt, modifiedAt, commentCount, managerCount, null);
+    }
+
+    private TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt,
+                         Long commentCount, Long managerCount, Long version) {
         this.id = id;
         this.title = title;
         this.contents = contents;
@@ -24,5 +49,8 @@ public class TodoResponse {
         this.user = user;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.version = version;
     }
 }
@@ -0,0 +1,23 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoResponseCacheStatsResponse {
+
+    private final int entryCount;
+    private final long usedBytes;
+    private final long maxBytes;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    public TodoResponseCacheStatsResponse(int entryCount, long usedBytes, long maxBytes, long hitCount, long missCount, long evictionCount) {
+        this.entryCount = entryCount;
+        this.usedBytes = usedBytes;
+        this.maxBytes = maxBytes;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+}
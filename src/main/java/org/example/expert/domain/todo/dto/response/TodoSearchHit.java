@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoSearchHit {
+
+    private final Long id;
+    private final double score;
+
+    public TodoSearchHit(Long id, double score) {
+        this.id = id;
+        this.score = score;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoSearchIndexStatsResponse {
+
+    private final int documentCount;
+    private final int termCount;
+    private final long postingCount;
+    private final long estimatedBytes;
+
+    public TodoSearchIndexStatsResponse(int documentCount, int termCount, long postingCount, long estimatedBytes) {
+        this.documentCount = documentCount;
+        this.termCount = termCount;
+        this.postingCount = postingCount;
+        this.estimatedBytes = estimatedBytes;
+    }
+}
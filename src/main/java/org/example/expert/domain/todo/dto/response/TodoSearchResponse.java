@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoSearchResponse {
+
+    private final List<TodoSearchHit> hits;
+    private final long tookMicros;
+
+    public TodoSearchResponse(List<TodoSearchHit> hits, long tookMicros) {
+        this.hits = hits;
+        this.tookMicros = tookMicros;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.user.entity.User;
 
 import java.util.ArrayList;
@@ -14,14 +15,26 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id"), // keyset 페이지네이션, 수정일 기간 필터용
+        @Index(name = "idx_todos_weather_modified_at_id", columnList = "weather, modified_at, id"), // 날씨 + 수정일 기간 필터용
+        @Index(name = "idx_todos_weather_status", columnList = "weather_status") // 날씨 보강 대기 건 조회용
+})
+@EntityListeners({TodoSearchIndexListener.class, TodoResponseCacheListener.class})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
     private String weather;
+    @Enumerated(EnumType.STRING)
+    private WeatherStatus weatherStatus;
+    // 조회 ETag 와 PATCH If-Match 비교에 쓰입니다. 일괄 UPDATE 에서도 직접 올려야 합니다.
+    @Version
+    private Long version;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -37,10 +50,23 @@ public class Todo extends Timestamped {
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        this.weatherStatus = WeatherStatus.RESOLVED;
         this.user = user;
         this.managers.add(new Manager(user, this));
     }
 
+    // 날씨는 백그라운드 보강 단계에서 채워집니다.
+    public static Todo withPendingWeather(String title, String contents, User user) {
+        Todo todo = new Todo(title, contents, null, user);
+        todo.weatherStatus = WeatherStatus.PENDING;
+        return todo;
+    }
+
+    // 날씨 보강 기능 이전에 저장된 일정은 weatherStatus 가 null 이므로 확정된 것으로 봅니다.
+    public boolean isWeatherResolved() {
+        return weatherStatus == null || weatherStatus == WeatherStatus.RESOLVED;
+    }
+
     public void update(String title, String contents) {
         this.title = title;
         this.contents = contents;
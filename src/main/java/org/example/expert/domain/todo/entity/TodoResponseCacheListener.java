@@ -0,0 +1,39 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.expert.domain.todo.service.TodoResponseCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Todo 수정/삭제 시 직렬화 응답 캐시에서 해당 일정을 지웁니다.
+ * 커밋 전에 지우면 그 사이 다른 요청이 커밋 전 값을 다시 채울 수 있으므로 커밋 이후에 지웁니다.
+ */
+@Component
+public class TodoResponseCacheListener {
+
+    private final ObjectProvider<TodoResponseCache> responseCache;
+
+    public TodoResponseCacheListener(ObjectProvider<TodoResponseCache> responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUpdateOrRemove(Todo todo) {
+        long todoId = todo.getId();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            responseCache.getObject().invalidate(todoId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                responseCache.getObject().invalidate(todoId);
+            }
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Todo 저장/수정/삭제를 검색 색인에 반영합니다.
+ * 롤백된 변경이 색인에 남지 않도록 트랜잭션 안에서는 커밋 이후에 반영합니다.
+ */
+@Component
+public class TodoSearchIndexListener {
+
+    // 색인은 TodoRepository(→ EntityManagerFactory)에 의존하므로 리스너 생성 시점에는 찾지 않습니다.
+    private final ObjectProvider<TodoSearchIndex> searchIndex;
+
+    public TodoSearchIndexListener(ObjectProvider<TodoSearchIndex> searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaveOrUpdate(Todo todo) {
+        long todoId = todo.getId();
+        String title = todo.getTitle();
+        String contents = todo.getContents();
+        afterCommit(() -> searchIndex.getObject().index(todoId, title, contents));
+    }
+
+    @PostRemove
+    public void onRemove(Todo todo) {
+        long todoId = todo.getId();
+        afterCommit(() -> searchIndex.getObject().remove(todoId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+
+// (modifiedAt, id) 순서로만 정렬하므로 오름차순/내림차순 모두 같은 복합 인덱스를 정방향/역방향으로 읽습니다.
+public enum TodoSort {
+    LATEST(Sort.Direction.DESC),
+    OLDEST(Sort.Direction.ASC);
+
+    private final Sort.Direction direction;
+
+    TodoSort(Sort.Direction direction) {
+        this.direction = direction;
+    }
+
+    public Sort toSort() {
+        return Sort.by(direction, "modifiedAt").and(Sort.by(direction, "id"));
+    }
+
+    public static TodoSort of(String sort) {
+        return Arrays.stream(TodoSort.values())
+                .filter(s -> s.name().equalsIgnoreCase(sort))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("sort 는 latest 또는 oldest 이어야 합니다."));
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.todo.enums;
+
+public enum WeatherStatus {
+    PENDING, RESOLVED,
+    // 예보에 해당 날짜가 없어 보강을 포기한 일정. 다시 조회하지 않습니다.
+    FAILED
+}
@@ -0,0 +1,7 @@
+package org.example.expert.domain.todo.repository;
+
+// 일정 ID 별 댓글/담당자 수를 GROUP BY 로 한 번에 집계할 때 사용하는 projection 입니다.
+public interface TodoChildCount {
+    Long getTodoId();
+    Long getChildCount();
+}
@@ -1,23 +1,74 @@
 package org.example.expert.domain.todo.repository;
 
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, JpaSpecificationExecutor<Todo> {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // Slice 반환이므로 COUNT 쿼리 없이 size + 1 건만 조회합니다.
+    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<Todo> findSliceByOrderByModifiedAtDesc(Pageable pageable);
+
+    // keyset 페이지네이션: (modifiedAt, id) 복합 인덱스를 그대로 타도록 정렬과 조건을 맞춥니다.
+    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findFirstPageByCursor(Pageable pageable);
+
+    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u " +
+            "WHERE t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<Todo> findNextPageByCursor(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
 
     @Query("SELECT t FROM Todo t " +
             "LEFT JOIN FETCH t.user " +
             "WHERE t.id = :todoId")
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
+    // 조건부 GET 용: 엔티티와 유저를 읽지 않고 PK 로 버전만 확인합니다.
+    @Query("SELECT t.version FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findVersionById(@Param("todoId") Long todoId);
+
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findOwnerIdById(@Param("todoId") Long todoId);
+
+    @Query("SELECT MAX(t.id) FROM Todo t")
+    Long findMaxId();
+
+    // 검색 색인 재구성용: ID 구간 단위로 나눠 여러 스레드가 동시에 읽습니다.
+    @Query("SELECT new org.example.expert.domain.todo.repository.TodoSearchSource(t.id, t.title, t.contents) " +
+            "FROM Todo t WHERE t.id BETWEEN :fromId AND :toId")
+    List<TodoSearchSource> findSearchSources(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
     int countById(Long todoId);
+
+    List<Todo> findByWeatherStatusOrderByIdAsc(WeatherStatus weatherStatus, Pageable pageable);
+
+    // 보강 대기 중인 일정들의 날씨를 한 번의 UPDATE 로 채웁니다. (modifiedAt 은 바꾸지 않고, 캐시된 ETag 가 무효화되도록 version 만 올립니다)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.weather = :weather, t.version = t.version + 1, " +
+            "t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.RESOLVED " +
+            "WHERE t.id IN :todoIds " +
+            "AND t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.PENDING")
+    int resolvePendingWeather(@Param("weather") String weather, @Param("todoIds") List<Long> todoIds);
+
+    // 예보에 날짜가 없어 채울 수 없는 일정은 FAILED 로 바꿔 다음 주기의 대기 목록에서 빠지게 합니다.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.version = t.version + 1, " +
+            "t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.FAILED " +
+            "WHERE t.id IN :todoIds " +
+            "AND t.weatherStatus = org.example.expert.domain.todo.enums.WeatherStatus.PENDING")
+    int failPendingWeather(@Param("todoIds") List<Long> todoIds);
 }
@@ -0,0 +1,5 @@
+package org.example.expert.domain.todo.repository;
+
+// 검색 색인 재구성 시 엔티티 대신 필요한 컬럼만 읽어 오는 projection 입니다.
+public record TodoSearchSource(Long id, String title, String contents) {
+}
@@ -0,0 +1,41 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.criteria.JoinType;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * GET /todos 필터 조건. 값이 없으면 null 조건을 돌려 WHERE 절에서 빠지므로,
+ * "(:weather IS NULL OR ...)" 처럼 옵티마이저가 인덱스를 포기하게 만드는 조건이 생기지 않습니다.
+ * 조합별로 타는 인덱스: weather(+기간) → idx_todos_weather_modified_at_id, 기간만 → idx_todos_modified_at_id
+ */
+public final class TodoSpecifications {
+
+    private TodoSpecifications() {
+    }
+
+    // 작성자는 다른 목록 쿼리처럼 LEFT JOIN FETCH 합니다. INNER JOIN 이면 옵티마이저가 users 부터 읽고 FK 인덱스로 todos 를 찾는
+    // 계획을 골라 기간 인덱스를 건너뛸 수 있습니다. COUNT 쿼리에는 fetch 를 붙일 수 없으므로 건너뜁니다.
+    public static Specification<Todo> fetchUser() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("user", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
+    public static Specification<Todo> weatherEquals(String weather) {
+        return (root, query, cb) -> weather == null ? null : cb.equal(root.get("weather"), weather);
+    }
+
+    public static Specification<Todo> modifiedAtOrAfter(LocalDateTime from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("modifiedAt"), from);
+    }
+
+    public static Specification<Todo> modifiedBefore(LocalDateTime to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThan(root.get("modifiedAt"), to);
+    }
+}
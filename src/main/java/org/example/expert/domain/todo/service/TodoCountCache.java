@@ -0,0 +1,40 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 목록 조회마다 COUNT(*) 를 실행하지 않도록 todos 전체 건수를 주기적으로 갱신해 두는 캐시.
+ * 값은 최대 갱신 주기만큼 늦을 수 있으므로 "대략적인" 전체 건수로만 노출합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCountCache {
+
+    private static final long UNKNOWN = -1L;
+
+    private final TodoRepository todoRepository;
+    private final AtomicLong approximateTotal = new AtomicLong(UNKNOWN);
+
+    @Scheduled(fixedDelayString = "${todo.approximate-count.refresh-ms:60000}")
+    public void refresh() {
+        try {
+            approximateTotal.set(todoRepository.count());
+        } catch (RuntimeException e) {
+            // 갱신에 실패해도 이전 값을 계속 사용합니다.
+            log.warn("Todo 전체 건수 갱신에 실패했습니다.", e);
+        }
+    }
+
+    // 아직 한 번도 집계하지 못했다면 null 을 반환합니다.
+    public Long getApproximateTotal() {
+        long total = approximateTotal.get();
+        return total == UNKNOWN ? null : total;
+    }
+}
@@ -0,0 +1,187 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.Getter;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponseCacheStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GET /todos/{todoId} 응답을 직렬화된 JSON 바이트(일정 크기 이상이면 gzip 본도 함께)로 보관합니다.
+ * 적중하면 DB 조회, TodoResponse 생성, Jackson 직렬화를 모두 건너뛰고 바이트를 그대로 응답합니다.
+ * 용량은 항목 수가 아니라 보관 중인 바이트 합계로 제한하며, 넘치면 가장 오래 쓰이지 않은 항목부터 내보냅니다.
+ * 무효화는 TodoResponseCacheListener(엔티티 수정/삭제 커밋 후)와 날씨 일괄 UPDATE 가 호출합니다.
+ */
+@Component
+public class TodoResponseCache {
+
+    // 엔트리 객체, LinkedHashMap 노드, Long 키 등 바이트 배열 외의 대략적인 고정 비용
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    // 무효화 세대 카운터 묶음 수. 같은 묶음의 다른 일정이 바뀌면 진행 중이던 채우기가 한 번 버려질 뿐입니다.
+    private static final int STRIPES = 256;
+
+    private final ObjectWriter objectWriter;
+    private final long maxBytes;
+    private final int gzipMinBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final long[] generations = new long[STRIPES];
+    private long totalBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public TodoResponseCache(
+            ObjectMapper objectMapper,
+            @Value("${todo.response-cache.max-bytes:16777216}") long maxBytes,
+            @Value("${todo.response-cache.gzip-min-bytes:1024}") int gzipMinBytes
+    ) {
+        this.objectWriter = objectMapper.writer();
+        this.maxBytes = maxBytes;
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    public Entry get(long todoId) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(todoId);
+            (entry == null ? misses : hits).incrementAndGet();
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * DB 에서 읽기 전에 받아 두고 put 에 넘깁니다.
+     * 읽는 사이에 무효화가 일어났다면 읽은 값이 이미 낡았을 수 있으므로 put 이 캐시에 넣지 않습니다.
+     */
+    public long ticket(long todoId) {
+        lock.lock();
+        try {
+            return generations[stripe(todoId)];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 캐시에 넣지 못하더라도(용량 0, 무효화 경합) 직렬화한 결과는 돌려주어 이번 응답에 그대로 씁니다.
+    public Entry put(long todoId, long ticket, TodoResponse response) {
+        Entry entry = serialize(response);
+        if (entry.getSizeInBytes() > maxBytes) {
+            return entry;
+        }
+
+        lock.lock();
+        try {
+            if (generations[stripe(todoId)] != ticket) {
+                return entry;
+            }
+            Entry previous = entries.put(todoId, entry);
+            if (previous != null) {
+                totalBytes -= previous.getSizeInBytes();
+            }
+            totalBytes += entry.getSizeInBytes();
+            evictIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+        return entry;
+    }
+
+    public void invalidate(long todoId) {
+        lock.lock();
+        try {
+            generations[stripe(todoId)]++;
+            Entry removed = entries.remove(todoId);
+            if (removed != null) {
+                totalBytes -= removed.getSizeInBytes();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll(Collection<Long> todoIds) {
+        for (Long todoId : todoIds) {
+            invalidate(todoId);
+        }
+    }
+
+    public TodoResponseCacheStatsResponse getStats() {
+        lock.lock();
+        try {
+            return new TodoResponseCacheStatsResponse(entries.size(), totalBytes, maxBytes, hits.get(), misses.get(), evictions.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().getValue().getSizeInBytes();
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private Entry serialize(TodoResponse response) {
+        try {
+            byte[] json = objectWriter.writeValueAsBytes(response);
+            byte[] gzip = json.length >= gzipMinBytes ? gzip(json) : null;
+            return new Entry(response.getVersion(), json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new ServerException("일정 응답을 직렬화하지 못했습니다. " + e.getMessage());
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new ServerException("일정 응답을 압축하지 못했습니다. " + e.getMessage());
+        }
+        return buffer.toByteArray();
+    }
+
+    private static int stripe(long todoId) {
+        return (int) (todoId & (STRIPES - 1));
+    }
+
+    @Getter
+    public static class Entry {
+
+        private final long version;
+        private final byte[] json;
+        // gzipMinBytes 보다 작은 응답은 압축 이득이 없어 null 입니다.
+        private final byte[] gzip;
+
+        private Entry(long version, byte[] json, byte[] gzip) {
+            this.version = version;
+            this.json = json;
+            this.gzip = gzip;
+        }
+
+        long getSizeInBytes() {
+            return ENTRY_OVERHEAD_BYTES + json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.response.TodoSearchHit;
+import org.example.expert.domain.todo.dto.response.TodoSearchIndexStatsResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSearchSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 일정 제목/내용에 대한 메모리 역색인.
+ * 용어마다 일정 ID 를 오름차순 long[] 로 들고 있고, 질의는 BM25 점수로 상위 k 개 ID 를 돌려줍니다.
+ * 시작 시 DB 에서 ID 구간별로 병렬 재구성하고, 이후에는 TodoSearchIndexListener 가 커밋된 변경만 반영합니다.
+ */
+@Slf4j
+@Component
+public class TodoSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 제목에 나온 단어가 내용보다 더 관련 있다고 보고 두 번 센 것으로 취급합니다.
+    private static final int TITLE_WEIGHT = 2;
+    private static final long REBUILD_CHUNK_SIZE = 10_000;
+
+    private final TodoRepository todoRepository;
+    private final int rebuildParallelism;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 아래 필드는 모두 lock 으로 보호됩니다.
+    private Map<String, Postings> postingsByTerm = new HashMap<>();
+    private Map<Long, IndexedTodo> documents = new HashMap<>();
+    private long totalLength;
+    private boolean rebuilding;
+    private final List<IndexedTodo> changesDuringRebuild = new ArrayList<>();
+
+    public TodoSearchIndex(
+            TodoRepository todoRepository,
+            @Value("${todo.search.rebuild-parallelism:0}") int rebuildParallelism
+    ) {
+        this.todoRepository = todoRepository;
+        this.rebuildParallelism = rebuildParallelism > 0 ? rebuildParallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    public void index(long todoId, String title, String contents) {
+        IndexedTodo document = analyze(todoId, title, contents);
+        lock.writeLock().lock();
+        try {
+            removeDocument(todoId);
+            addDocument(document);
+            if (rebuilding) {
+                changesDuringRebuild.add(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long todoId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(todoId);
+            if (rebuilding) {
+                changesDuringRebuild.add(IndexedTodo.removed(todoId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<TodoSearchHit> search(String query, int limit) {
+        List<String> terms = TodoTokenizer.tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        // 점수가 같으면 최근(ID 가 큰) 일정을 앞에 둡니다.
+        Comparator<TodoSearchHit> ranking = Comparator.comparingDouble(TodoSearchHit::getScore)
+                .thenComparing(TodoSearchHit::getId);
+        PriorityQueue<TodoSearchHit> top = new PriorityQueue<>(limit + 1, ranking);
+
+        lock.readLock().lock();
+        try {
+            List<Postings> matched = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings != null) {
+                    matched.add(postings);
+                }
+            }
+            if (matched.isEmpty()) {
+                return List.of();
+            }
+
+            int documentCount = documents.size();
+            double averageLength = (double) totalLength / documentCount;
+            double[] idf = new double[matched.size()];
+            for (int t = 0; t < matched.size(); t++) {
+                int df = matched.get(t).size;
+                idf[t] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            }
+
+            // posting 이 ID 오름차순이므로 용어별 커서를 나란히 움직이며 합산합니다. (점수용 Map/박싱 없음)
+            int[] cursors = new int[matched.size()];
+            while (true) {
+                long id = Long.MAX_VALUE;
+                for (int t = 0; t < matched.size(); t++) {
+                    Postings postings = matched.get(t);
+                    if (cursors[t] < postings.size && postings.ids[cursors[t]] < id) {
+                        id = postings.ids[cursors[t]];
+                    }
+                }
+                if (id == Long.MAX_VALUE) {
+                    break;
+                }
+
+                double score = 0;
+                for (int t = 0; t < matched.size(); t++) {
+                    Postings postings = matched.get(t);
+                    int i = cursors[t];
+                    if (i < postings.size && postings.ids[i] == id) {
+                        int frequency = postings.frequencies[i];
+                        double norm = K1 * (1 - B + B * postings.lengths[i] / averageLength);
+                        score += idf[t] * frequency * (K1 + 1) / (frequency + norm);
+                        cursors[t]++;
+                    }
+                }
+
+                if (top.size() < limit) {
+                    top.offer(new TodoSearchHit(id, score));
+                } else if (score > top.peek().getScore() || (score == top.peek().getScore() && id > top.peek().getId())) {
+                    top.poll();
+                    top.offer(new TodoSearchHit(id, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<TodoSearchHit> hits = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            hits.add(top.poll());
+        }
+        return hits.reversed();
+    }
+
+    public TodoSearchIndexStatsResponse getStats() {
+        lock.readLock().lock();
+        try {
+            long postingCount = 0;
+            long bytes = 0;
+            for (Map.Entry<String, Postings> entry : postingsByTerm.entrySet()) {
+                postingCount += entry.getValue().size;
+                // HashMap 노드 + String(헤더 + byte[]) + Postings 와 세 배열
+                bytes += 32 + 40 + entry.getKey().length() * 2L + entry.getValue().estimatedBytes();
+            }
+            for (IndexedTodo document : documents.values()) {
+                // HashMap 노드 + Long + 레코드 + String[] / int[] 참조 배열
+                bytes += 32 + 16 + 24 + 2 * (16 + 4L * document.terms().length);
+            }
+            return new TodoSearchIndexStatsResponse(documents.size(), postingsByTerm.size(), postingCount, bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // DB 를 ID 구간으로 나눠 병렬로 읽고 토큰화한 뒤, 새 색인을 만들어 한 번에 교체합니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            changesDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ExecutorService rebuildExecutor = Executors.newFixedThreadPool(rebuildParallelism,
+                new CustomizableThreadFactory("todo-search-rebuild-"));
+        try {
+            Long maxId = todoRepository.findMaxId();
+            List<Future<List<IndexedTodo>>> chunks = new ArrayList<>();
+            for (long fromId = 1; maxId != null && fromId <= maxId; fromId += REBUILD_CHUNK_SIZE) {
+                long from = fromId;
+                long to = Math.min(fromId + REBUILD_CHUNK_SIZE - 1, maxId);
+                chunks.add(rebuildExecutor.submit(() -> analyzeRange(from, to)));
+            }
+
+            Map<String, Postings> newPostings = new HashMap<>();
+            Map<Long, IndexedTodo> newDocuments = new HashMap<>();
+            long newTotalLength = 0;
+            // 구간을 ID 순서대로 합치므로 posting 은 항상 끝에 붙고 정렬 상태가 유지됩니다.
+            for (Future<List<IndexedTodo>> chunk : chunks) {
+                for (IndexedTodo document : chunk.get()) {
+                    addTo(newPostings, document);
+                    newDocuments.put(document.id(), document);
+                    newTotalLength += document.length();
+                }
+            }
+
+            lock.writeLock().lock();
+            try {
+                postingsByTerm = newPostings;
+                documents = newDocuments;
+                totalLength = newTotalLength;
+                // 재구성 중에 커밋된 변경은 새 색인에 다시 반영합니다.
+                for (IndexedTodo change : changesDuringRebuild) {
+                    removeDocument(change.id());
+                    if (!change.isRemoval()) {
+                        addDocument(change);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Todo 검색 색인을 재구성했습니다. documents={}, terms={}, took={}ms",
+                    newDocuments.size(), newPostings.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            log.warn("Todo 검색 색인 재구성에 실패했습니다. 기존 색인을 계속 사용합니다.", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                changesDuringRebuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            rebuildExecutor.shutdownNow();
+        }
+    }
+
+    private List<IndexedTodo> analyzeRange(long fromId, long toId) {
+        List<TodoSearchSource> sources = todoRepository.findSearchSources(fromId, toId);
+        List<IndexedTodo> documents = new ArrayList<>(sources.size());
+        for (TodoSearchSource source : sources) {
+            documents.add(analyze(source.id(), source.title(), source.contents()));
+        }
+        return documents;
+    }
+
+    private IndexedTodo analyze(long todoId, String title, String contents) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        List<String> titleTokens = TodoTokenizer.tokenize(title);
+        List<String> contentTokens = TodoTokenizer.tokenize(contents);
+        for (String token : titleTokens) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : contentTokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+
+        String[] terms = new String[frequencies.size()];
+        int[] termFrequencies = new int[frequencies.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            terms[i] = entry.getKey();
+            termFrequencies[i] = entry.getValue();
+            i++;
+        }
+        int length = titleTokens.size() * TITLE_WEIGHT + contentTokens.size();
+        return new IndexedTodo(todoId, terms, termFrequencies, length);
+    }
+
+    private void addDocument(IndexedTodo document) {
+        addTo(postingsByTerm, document);
+        documents.put(document.id(), document);
+        totalLength += document.length();
+    }
+
+    private void removeDocument(long todoId) {
+        IndexedTodo document = documents.remove(todoId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            Postings postings = postingsByTerm.get(term);
+            if (postings != null && postings.remove(todoId) && postings.size == 0) {
+                postingsByTerm.remove(term);
+            }
+        }
+        totalLength -= document.length();
+    }
+
+    private static void addTo(Map<String, Postings> postingsByTerm, IndexedTodo document) {
+        String[] terms = document.terms();
+        for (int i = 0; i < terms.length; i++) {
+            Postings postings = postingsByTerm.computeIfAbsent(terms[i], Postings::new);
+            postings.add(document.id(), document.termFrequencies()[i], document.length());
+            // 문서마다 따로 만든 같은 문자열을 들고 있지 않도록 색인의 용어 인스턴스를 공유합니다.
+            terms[i] = postings.term;
+        }
+    }
+
+    private record IndexedTodo(long id, String[] terms, int[] termFrequencies, int length) {
+
+        static IndexedTodo removed(long id) {
+            return new IndexedTodo(id, null, null, 0);
+        }
+
+        boolean isRemoval() {
+            return terms == null;
+        }
+    }
+
+    // 한 용어의 posting 목록. 박싱 없이 ID 오름차순 long[] 와 빈도/문서 길이 int[] 를 나란히 둡니다.
+    private static final class Postings {
+
+        private final String term;
+        private long[] ids = new long[4];
+        private int[] frequencies = new int[4];
+        private int[] lengths = new int[4];
+        private int size;
+
+        Postings(String term) {
+            this.term = term;
+        }
+
+        void add(long id, int frequency, int length) {
+            // 새 일정은 ID 가 가장 크므로 대부분 이진 탐색 없이 끝에 붙습니다.
+            int index = size == 0 || ids[size - 1] < id ? size : Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0 && index < size) {
+                frequencies[index] = frequency;
+                lengths[index] = length;
+                return;
+            }
+
+            int insertAt = index >= 0 ? index : -index - 1;
+            if (size == ids.length) {
+                int capacity = size + (size >> 1) + 1;
+                ids = Arrays.copyOf(ids, capacity);
+                frequencies = Arrays.copyOf(frequencies, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+            System.arraycopy(lengths, insertAt, lengths, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            frequencies[insertAt] = frequency;
+            lengths[insertAt] = length;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            int moved = size - index - 1;
+            System.arraycopy(ids, index + 1, ids, index, moved);
+            System.arraycopy(frequencies, index + 1, frequencies, index, moved);
+            System.arraycopy(lengths, index + 1, lengths, index, moved);
+            size--;
+            return true;
+        }
+
+        long estimatedBytes() {
+            return 24 + 3 * 16 + ids.length * 8L + frequencies.length * 4L + lengths.length * 4L;
+        }
+    }
+}
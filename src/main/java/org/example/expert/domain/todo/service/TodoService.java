@@ -2,82 +2,279 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.exception.ForbiddenException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoFilterRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchHit;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoSort;
+import org.example.expert.domain.todo.repository.TodoChildCount;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSpecifications;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoCountCache todoCountCache;
+    private final TodoWeatherEnrichmentService weatherEnrichmentService;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoResponseCache todoResponseCache;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
-
-        Todo newTodo = new Todo(
-                todoSaveRequest.getTitle(),
-                todoSaveRequest.getContents(),
-                weather,
-                user
-        );
+        Todo newTodo;
+        if (weatherEnrichmentService.isAsyncEnabled()) {
+            // 날씨 API 를 기다리지 않고 저장하고, 날씨는 백그라운드에서 채웁니다.
+            newTodo = Todo.withPendingWeather(todoSaveRequest.getTitle(), todoSaveRequest.getContents(), user);
+        } else {
+            newTodo = new Todo(
+                    todoSaveRequest.getTitle(),
+                    todoSaveRequest.getContents(),
+                    weatherClient.getTodayWeather(),
+                    user
+            );
+        }
         Todo savedTodo = todoRepository.save(newTodo);
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
                 savedTodo.getTitle(),
                 savedTodo.getContents(),
-                weather,
+                savedTodo.getWeather(),
+                savedTodo.isWeatherResolved(),
                 new UserResponse(user.getId(), user.getEmail())
         );
     }
 
-    public Page<TodoResponse> getTodos(int page, int size) {
-        Pageable pageable = PageRequest.of(page - 1, size);
+    public Page<TodoResponse> getTodos(int page, int size, boolean includeCounts, TodoFilterRequest filter) {
+        TodoSort sort = TodoSort.of(filter.getSort());
+        Pageable pageable = PageRequest.of(validatePage(page) - 1, boundPageSize(size), sort.toSort());
+
+        Page<Todo> todos = todoRepository.findAll(toSpecification(filter), pageable);
+        if (!includeCounts || todos.isEmpty()) {
+            return todos.map(this::toTodoResponse);
+        }
+
+        // 행마다 COUNT 를 날리지 않고, 페이지의 일정 ID 전체에 대해 GROUP BY 집계를 한 번씩만 실행합니다.
+        List<Long> todoIds = todos.getContent().stream().map(Todo::getId).toList();
+        Map<Long, Long> commentCounts = toCountMap(commentRepository.countByTodoIds(todoIds));
+        Map<Long, Long> managerCounts = toCountMap(managerRepository.countByTodoIds(todoIds));
+
+        return todos.map(todo -> toTodoResponse(
+                todo,
+                commentCounts.getOrDefault(todo.getId(), 0L),
+                managerCounts.getOrDefault(todo.getId(), 0L)
+        ));
+    }
+
+    // 날짜 필터는 [from 00:00, to 다음 날 00:00) 반열린 구간으로 바꿔 인덱스 범위 조건 하나로 만듭니다.
+    private Specification<Todo> toSpecification(TodoFilterRequest filter) {
+        LocalDate from = filter.getFrom();
+        LocalDate to = filter.getTo();
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidRequestException("from 은 to 보다 늦을 수 없습니다.");
+        }
+
+        return Specification
+                .where(TodoSpecifications.fetchUser())
+                .and(TodoSpecifications.weatherEquals(StringUtils.hasText(filter.getWeather()) ? filter.getWeather() : null))
+                .and(TodoSpecifications.modifiedAtOrAfter(from == null ? null : from.atStartOfDay()))
+                .and(TodoSpecifications.modifiedBefore(to == null ? null : to.plusDays(1).atStartOfDay()));
+    }
+
+    public TodoSliceResponse getTodoSlice(int page, int size, boolean includeApproximateTotal) {
+        int boundedSize = boundPageSize(size);
+        Pageable pageable = PageRequest.of(validatePage(page) - 1, boundedSize);
+
+        Slice<Todo> todos = todoRepository.findSliceByOrderByModifiedAtDesc(pageable);
+
+        return new TodoSliceResponse(
+                todos.getContent().stream().map(this::toTodoResponse).toList(),
+                page,
+                boundedSize,
+                todos.hasNext(),
+                includeApproximateTotal ? todoCountCache.getApproximateTotal() : null
+        );
+    }
+
+    public TodoCursorResponse getTodosByCursor(String cursor, int size) {
+        int boundedSize = boundPageSize(size);
+
+        // 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 한 건 더 조회합니다.
+        Pageable limit = PageRequest.of(0, boundedSize + 1);
+
+        List<Todo> todos;
+        if (StringUtils.hasText(cursor)) {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            todos = todoRepository.findNextPageByCursor(keysetCursor.getTimestamp(), keysetCursor.getId(), limit);
+        } else {
+            todos = todoRepository.findFirstPageByCursor(limit);
+        }
+
+        boolean hasNext = todos.size() > boundedSize;
+        List<Todo> content = hasNext ? todos.subList(0, boundedSize) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Todo last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new TodoCursorResponse(
+                content.stream().map(this::toTodoResponse).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+
+    public TodoResponse getTodo(long todoId) {
+        Todo todo = todoRepository.findByIdWithUser(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        return toDetailResponse(todo);
+    }
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+    private TodoResponse toDetailResponse(Todo todo) {
+        User user = todo.getUser();
 
-        return todos.map(todo -> new TodoResponse(
+        return new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
                 todo.getContents(),
                 todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                new UserResponse(user.getId(), user.getEmail()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+                todo.getModifiedAt(),
+                todo.getVersion()
+        );
     }
 
-    public TodoResponse getTodo(long todoId) {
+    // 캐시만 확인하므로 트랜잭션(DB 커넥션)을 열지 않습니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoResponseCache.Entry findCachedTodo(long todoId) {
+        return todoResponseCache.get(todoId);
+    }
+
+    public TodoResponseCache.Entry loadAndCacheTodo(long todoId) {
+        long ticket = todoResponseCache.ticket(todoId);
+        return todoResponseCache.put(todoId, ticket, getTodo(todoId));
+    }
+
+    public long getTodoVersion(long todoId) {
+        return todoRepository.findVersionById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
+
+    @Transactional
+    public TodoResponse updateTodo(AuthUser authUser, long todoId, long expectedVersion, TodoUpdateRequest todoUpdateRequest) {
+        String title = todoUpdateRequest.getTitle();
+        String contents = todoUpdateRequest.getContents();
+        if ((title != null && !StringUtils.hasText(title)) || (contents != null && !StringUtils.hasText(contents))) {
+            throw new InvalidRequestException("제목과 내용은 빈 값으로 수정할 수 없습니다.");
+        }
+
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), todo.getUser().getId())) {
+            throw new ForbiddenException("일정을 만든 유저만 수정할 수 있습니다.");
+        }
+        if (todo.getVersion() != expectedVersion) {
+            throw new PreconditionFailedException("일정이 이미 수정되었습니다. 다시 조회한 뒤 수정해 주세요.");
+        }
 
-        User user = todo.getUser();
+        todo.update(title != null ? title : todo.getTitle(), contents != null ? contents : todo.getContents());
+        // 응답 ETag 에 올라간 버전을 담기 위해 바로 flush 합니다. 그 사이 다른 수정이 커밋됐다면 여기서 낙관적 락 예외가 납니다.
+        todoRepository.saveAndFlush(todo);
+
+        return toDetailResponse(todo);
+    }
+
+    private int validatePage(int page) {
+        if (page < 1) {
+            throw new InvalidRequestException("page 는 1 이상이어야 합니다.");
+        }
+        return page;
+    }
+
+    // 한 번의 요청으로 테이블 전체를 영속성 컨텍스트에 올리지 않도록 size 상한을 강제합니다.
+    private int boundPageSize(int size) {
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
 
+    public TodoSearchResponse searchTodos(String query, int limit) {
+        if (!StringUtils.hasText(query)) {
+            throw new InvalidRequestException("검색어를 입력해 주세요.");
+        }
+        long startedAt = System.nanoTime();
+        List<TodoSearchHit> hits = todoSearchIndex.search(query, boundPageSize(limit));
+        return new TodoSearchResponse(hits, (System.nanoTime() - startedAt) / 1_000);
+    }
+
+    private Map<Long, Long> toCountMap(List<TodoChildCount> counts) {
+        Map<Long, Long> countByTodoId = new HashMap<>();
+        for (TodoChildCount count : counts) {
+            countByTodoId.put(count.getTodoId(), count.getChildCount());
+        }
+        return countByTodoId;
+    }
+
+    private TodoResponse toTodoResponse(Todo todo) {
+        return toTodoResponse(todo, null, null);
+    }
+
+    private TodoResponse toTodoResponse(Todo todo, Long commentCount, Long managerCount) {
         return new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
                 todo.getContents(),
                 todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
+                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                commentCount,
+                managerCount
         );
     }
 }
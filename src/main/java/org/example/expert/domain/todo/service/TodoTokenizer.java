@@ -0,0 +1,65 @@
+package org.example.expert.domain.todo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인/질의용 토크나이저.
+ * 영문·숫자는 단어 단위로 자르고, 한글은 조사가 붙어도 검색되도록 음절 bigram 으로 자릅니다. ("회의를" -> "회의", "의를")
+ */
+public final class TodoTokenizer {
+
+    private TodoTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            int codePoint = normalized.codePointAt(i);
+            if (!Character.isLetterOrDigit(codePoint)) {
+                i += Character.charCount(codePoint);
+                continue;
+            }
+
+            int start = i;
+            boolean hangul = isHangul(codePoint);
+            while (i < length) {
+                int next = normalized.codePointAt(i);
+                if (!Character.isLetterOrDigit(next) || isHangul(next) != hangul) {
+                    break;
+                }
+                i += Character.charCount(next);
+            }
+
+            String word = normalized.substring(start, i);
+            if (hangul) {
+                addBigrams(word, tokens);
+            } else {
+                tokens.add(word);
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String word, List<String> tokens) {
+        if (word.length() == 1) {
+            tokens.add(word);
+            return;
+        }
+        for (int i = 0; i + 1 < word.length(); i++) {
+            tokens.add(word.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+}
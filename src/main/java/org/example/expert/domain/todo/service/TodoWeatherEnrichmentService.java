@@ -0,0 +1,125 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherCircuitBreaker;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * weather.enrichment.async=true 일 때 일정 저장은 날씨 없이(PENDING) 바로 끝나고,
+ * 이 서비스가 주기적으로 대기 중인 일정을 모아 날짜별로 한 번씩 날씨를 조회한 뒤 일괄 UPDATE 합니다.
+ * 예보에 없는 날짜의 일정은 FAILED 로 바꿔 대기 목록에서 빼므로, 채울 수 없는 일정이 앞쪽 배치를 계속 차지하지 않습니다.
+ */
+@Slf4j
+@Service
+public class TodoWeatherEnrichmentService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final WeatherCircuitBreaker circuitBreaker;
+    private final TodoResponseCache responseCache;
+    private final ExecutorService executor;
+    private final boolean asyncEnabled;
+    private final long timeoutMillis;
+
+    public TodoWeatherEnrichmentService(
+            TodoRepository todoRepository,
+            WeatherClient weatherClient,
+            WeatherCircuitBreaker circuitBreaker,
+            TodoResponseCache responseCache,
+            @Qualifier("weatherEnrichmentExecutor") ExecutorService executor,
+            @Value("${weather.enrichment.async:false}") boolean asyncEnabled,
+            @Value("${weather.enrichment.timeout-ms:3000}") long timeoutMillis
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.circuitBreaker = circuitBreaker;
+        this.responseCache = responseCache;
+        this.executor = executor;
+        this.asyncEnabled = asyncEnabled;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    @Scheduled(fixedDelayString = "${weather.enrichment.interval-ms:1000}")
+    public void enrichPendingTodos() {
+        if (!asyncEnabled) {
+            return;
+        }
+
+        List<Todo> pendingTodos = todoRepository.findByWeatherStatusOrderByIdAsc(
+                WeatherStatus.PENDING, PageRequest.of(0, BATCH_SIZE));
+        if (pendingTodos.isEmpty()) {
+            return;
+        }
+
+        // 같은 날짜에 만들어진 일정은 같은 날씨를 가지므로 날짜별로 묶어 한 번만 조회합니다.
+        Map<MonthDay, List<Long>> todoIdsByDay = new LinkedHashMap<>();
+        for (Todo todo : pendingTodos) {
+            MonthDay day = todo.getCreatedAt() == null ? MonthDay.now() : MonthDay.from(todo.getCreatedAt());
+            todoIdsByDay.computeIfAbsent(day, key -> new ArrayList<>()).add(todo.getId());
+        }
+
+        for (Map.Entry<MonthDay, List<Long>> entry : todoIdsByDay.entrySet()) {
+            if (!circuitBreaker.allowRequest()) {
+                log.debug("날씨 API 서킷이 열려 있어 보강을 다음 주기로 미룹니다. pending={}", pendingTodos.size());
+                return;
+            }
+
+            Future<Optional<String>> future = null;
+            try {
+                future = executor.submit(() -> weatherClient.findWeather(entry.getKey()));
+                Optional<String> weather = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+                // 예보는 받아 왔으므로 날짜가 없더라도 API 는 정상입니다. 그 날짜의 일정만 FAILED 로 정리합니다.
+                circuitBreaker.recordSuccess();
+                if (weather.isPresent()) {
+                    todoRepository.resolvePendingWeather(weather.get(), entry.getValue());
+                } else {
+                    log.warn("예보에 없는 날짜라 날씨 보강을 포기합니다. day={}, todos={}", entry.getKey(), entry.getValue().size());
+                    todoRepository.failPendingWeather(entry.getValue());
+                }
+                // 일괄 UPDATE 는 엔티티 리스너를 거치지 않으므로 응답 캐시를 직접 비웁니다.
+                responseCache.invalidateAll(entry.getValue());
+            } catch (TimeoutException e) {
+                // 기다림을 포기한 호출이 executor 스레드를 계속 잡고 있지 않도록 인터럽트합니다.
+                future.cancel(true);
+                circuitBreaker.recordFailure();
+                log.warn("날씨 보강 시간이 초과되었습니다. day={}, todos={}", entry.getKey(), entry.getValue().size());
+            } catch (ExecutionException | RejectedExecutionException e) {
+                circuitBreaker.recordFailure();
+                log.warn("날씨 보강에 실패했습니다. day={}, todos={}", entry.getKey(), entry.getValue().size(), e);
+            } catch (InterruptedException e) {
+                if (future != null) {
+                    future.cancel(true);
+                }
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -1,23 +1,45 @@
 package org.example.expert.domain.user.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.annotation.TrackTime;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.BulkSignupResponse;
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserBulkProvisioningService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+
 @RestController
 @RequiredArgsConstructor
 public class UserAdminController {
 
     private final UserAdminService userAdminService;
+    private final UserBulkProvisioningService userBulkProvisioningService;
 
     @TrackTime
     @PatchMapping("/admin/users/{userId}")
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    // 본문은 한 줄에 {"email", "password", "userRole"} 하나씩인 NDJSON 이며, 읽는 즉시 청크 단위로 처리합니다.
+    @TrackTime
+    @PostMapping(value = "/admin/users/bulk", consumes = "application/x-ndjson")
+    public ResponseEntity<BulkSignupResponse> bulkSignup(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(userBulkProvisioningService.provision(request.getInputStream()));
+    }
+
+    @GetMapping("/admin/users/cache-stats")
+    public ResponseEntity<UserCacheStatsResponse> getUserCacheStats() {
+        return ResponseEntity.ok(userAdminService.getUserCacheStats());
+    }
 }
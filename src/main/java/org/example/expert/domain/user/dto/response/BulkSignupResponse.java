@@ -0,0 +1,29 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BulkSignupResponse {
+
+    private final long created;
+    private final long duplicated;
+    private final long invalid;
+    private final long failed;
+    private final long retry;
+    // 가입되지 않은 행만 줄 번호 순으로 담습니다. 너무 많으면 앞쪽만 담고 truncated 를 true 로 둡니다.
+    private final List<BulkSignupResult> results;
+    private final boolean truncated;
+
+    public BulkSignupResponse(long created, long duplicated, long invalid, long failed, long retry,
+                              List<BulkSignupResult> results, boolean truncated) {
+        this.created = created;
+        this.duplicated = duplicated;
+        this.invalid = invalid;
+        this.failed = failed;
+        this.retry = retry;
+        this.results = results;
+        this.truncated = truncated;
+    }
+}
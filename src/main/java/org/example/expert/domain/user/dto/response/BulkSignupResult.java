@@ -0,0 +1,25 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class BulkSignupResult {
+
+    public enum Status {
+        CREATED, DUPLICATE, INVALID, FAILED,
+        // 서버가 바빠 처리하지 못한 행. 가입되지 않았으므로 그대로 다시 보내면 됩니다.
+        RETRY
+    }
+
+    private final long line;
+    private final String email;
+    private final Status status;
+    private final String message;
+
+    public BulkSignupResult(long line, String email, Status status, String message) {
+        this.line = line;
+        this.email = email;
+        this.status = status;
+        this.message = message;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserCacheStatsResponse {
+
+    private final boolean enabled;
+    private final long entityHitCount;
+    private final long entityMissCount;
+    private final double entityHitRatio;
+    private final long naturalIdHitCount;
+    private final long naturalIdMissCount;
+    private final double naturalIdHitRatio;
+
+    public UserCacheStatsResponse(boolean enabled, long entityHitCount, long entityMissCount,
+                                  long naturalIdHitCount, long naturalIdMissCount) {
+        this.enabled = enabled;
+        this.entityHitCount = entityHitCount;
+        this.entityMissCount = entityMissCount;
+        this.entityHitRatio = hitRatio(entityHitCount, entityMissCount);
+        this.naturalIdHitCount = naturalIdHitCount;
+        this.naturalIdMissCount = naturalIdMissCount;
+        this.naturalIdHitRatio = hitRatio(naturalIdHitCount, naturalIdMissCount);
+    }
+
+    private static double hitRatio(long hitCount, long missCount) {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.user.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 파생 쿼리(findByEmail)는 항상 SELECT 를 실행하므로, natural id 로 조회해 users-by-email 캐시를 거치게 합니다.
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
@@ -1,11 +1,17 @@
 package org.example.expert.domain.user.service;
 
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.SecondLevelCacheConfig;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,10 +20,30 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
     }
+
+    public UserCacheStatsResponse getUserCacheStats() {
+        // SessionFactory.getSessionFactoryOptions() 는 deprecated 이므로 SPI 인 SessionFactoryImplementor 로 꺼냅니다.
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        if (!sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return new UserCacheStatsResponse(false, 0, 0, 0, 0);
+        }
+
+        Statistics statistics = sessionFactory.getStatistics();
+        CacheRegionStatistics entityRegion = statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.USER_REGION);
+        CacheRegionStatistics naturalIdRegion = statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.USER_EMAIL_REGION);
+        return new UserCacheStatsResponse(
+                true,
+                entityRegion.getHitCount(),
+                entityRegion.getMissCount(),
+                naturalIdRegion.getHitCount(),
+                naturalIdRegion.getMissCount()
+        );
+    }
 }
@@ -0,0 +1,230 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.user.dto.response.BulkSignupResponse;
+import org.example.expert.domain.user.dto.response.BulkSignupResult;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * NDJSON(한 줄에 SignupRequest 하나) 본문을 스트리밍으로 읽어 CHUNK_SIZE 단위로 가입시킵니다.
+ * 청크마다 중복 이메일은 IN 쿼리 한 번으로 확인하고, 비밀번호는 bcrypt 풀에서 병렬로 해시한 뒤
+ * 청크 하나를 한 트랜잭션으로 저장합니다. (pooled sequence ID 덕분에 INSERT 는 hibernate.jdbc.batch_size 단위로 묶입니다)
+ * 요청 내내 열려 있는 영속성 컨텍스트(open-in-view)에 저장한 User 가 쌓이지 않도록 청크마다 flush/clear 하고,
+ * 응답에는 상태별 건수와 처리하지 못한 행만 MAX_REPORTED_ROWS 건까지 담습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserBulkProvisioningService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ROWS = 1000;
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public BulkSignupResponse provision(InputStream ndjson) throws IOException {
+        Report report = new Report();
+        Set<String> seenEmails = new HashSet<>();
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                Row row = parse(lineNumber, line, report);
+                if (row == null) {
+                    continue;
+                }
+                // 같은 요청 안에서 중복된 이메일은 첫 번째 줄만 처리합니다.
+                if (!seenEmails.add(row.email())) {
+                    report.add(new BulkSignupResult(lineNumber, row.email(), BulkSignupResult.Status.DUPLICATE, "요청 안에서 중복된 이메일입니다."));
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    provisionChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            provisionChunk(chunk, report);
+        }
+        return report.toResponse();
+    }
+
+    private Row parse(long lineNumber, String line, Report report) {
+        SignupRequest signupRequest;
+        try {
+            signupRequest = objectMapper.readValue(line, SignupRequest.class);
+        } catch (JsonProcessingException e) {
+            report.add(new BulkSignupResult(lineNumber, null, BulkSignupResult.Status.INVALID, "JSON 형식이 올바르지 않습니다."));
+            return null;
+        }
+
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(signupRequest);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<SignupRequest> violation = violations.iterator().next();
+            report.add(new BulkSignupResult(lineNumber, signupRequest.getEmail(), BulkSignupResult.Status.INVALID,
+                    violation.getPropertyPath() + " " + violation.getMessage()));
+            return null;
+        }
+
+        try {
+            UserRole userRole = UserRole.of(signupRequest.getUserRole());
+            return new Row(lineNumber, signupRequest.getEmail(), signupRequest.getPassword(), userRole);
+        } catch (InvalidRequestException e) {
+            report.add(new BulkSignupResult(lineNumber, signupRequest.getEmail(), BulkSignupResult.Status.INVALID, e.getMessage()));
+            return null;
+        }
+    }
+
+    private void provisionChunk(List<Row> chunk, Report report) {
+        Set<String> existingEmails = userRepository.findExistingEmails(chunk.stream().map(Row::email).toList());
+        List<Row> newRows = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (existingEmails.contains(row.email())) {
+                report.add(new BulkSignupResult(row.line(), row.email(), BulkSignupResult.Status.DUPLICATE, "이미 존재하는 이메일입니다."));
+            } else {
+                newRows.add(row);
+            }
+        }
+        if (newRows.isEmpty()) {
+            return;
+        }
+
+        List<String> encodedPasswords;
+        try {
+            encodedPasswords = passwordEncoder.encodeAll(newRows.stream().map(Row::rawPassword).toList());
+        } catch (ServiceUnavailableException e) {
+            // 해시 풀이 로그인 요청으로 가득 찬 경우: 이미 처리한 청크의 결과는 살리고, 이 청크는 다시 보내도록 알려 줍니다.
+            log.warn("해시 풀이 가득 차 대량 가입 청크를 건너뜁니다. rows={}", newRows.size());
+            for (Row row : newRows) {
+                report.add(new BulkSignupResult(row.line(), row.email(), BulkSignupResult.Status.RETRY, e.getMessage()));
+            }
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveAndDetach(toUsers(newRows, encodedPasswords)));
+            report.addCreated(newRows.size());
+        } catch (DataIntegrityViolationException e) {
+            // 확인 이후 다른 요청이 같은 이메일로 가입한 경우: 이 청크만 한 건씩 다시 넣어 실패한 행을 가려냅니다.
+            log.warn("대량 가입 batch INSERT 가 실패해 한 건씩 다시 시도합니다. rows={}", newRows.size());
+            for (int i = 0; i < newRows.size(); i++) {
+                report.add(insertOne(newRows.get(i), encodedPasswords.get(i)));
+            }
+        }
+    }
+
+    // 저장한 User 를 영속성 컨텍스트에서 떼어 내 청크가 끝나면 GC 대상이 되게 합니다.
+    private void saveAndDetach(List<User> users) {
+        try {
+            userRepository.saveAll(users);
+            entityManager.flush();
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private List<User> toUsers(List<Row> rows, List<String> encodedPasswords) {
+        List<User> users = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            users.add(new User(row.email(), encodedPasswords.get(i), row.userRole()));
+        }
+        return users;
+    }
+
+    private BulkSignupResult insertOne(Row row, String encodedPassword) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    saveAndDetach(List.of(new User(row.email(), encodedPassword, row.userRole()))));
+            return new BulkSignupResult(row.line(), row.email(), BulkSignupResult.Status.CREATED, null);
+        } catch (DataIntegrityViolationException e) {
+            return new BulkSignupResult(row.line(), row.email(), BulkSignupResult.Status.DUPLICATE, "이미 존재하는 이메일입니다.");
+        } catch (RuntimeException e) {
+            return new BulkSignupResult(row.line(), row.email(), BulkSignupResult.Status.FAILED, e.getMessage());
+        }
+    }
+
+    private record Row(long line, String email, String rawPassword, UserRole userRole) {
+    }
+
+    // 상태별 건수는 모두 세고, 클라이언트가 다시 보내거나 고쳐야 하는 행(CREATED 이외)만 MAX_REPORTED_ROWS 건까지 보관합니다.
+    private static class Report {
+
+        private final Map<BulkSignupResult.Status, Long> counts = new EnumMap<>(BulkSignupResult.Status.class);
+        private final List<BulkSignupResult> rejected = new ArrayList<>();
+        private boolean truncated;
+
+        void addCreated(int count) {
+            counts.merge(BulkSignupResult.Status.CREATED, (long) count, Long::sum);
+        }
+
+        void add(BulkSignupResult result) {
+            counts.merge(result.getStatus(), 1L, Long::sum);
+            if (result.getStatus() == BulkSignupResult.Status.CREATED) {
+                return;
+            }
+            if (rejected.size() < MAX_REPORTED_ROWS) {
+                rejected.add(result);
+            } else {
+                truncated = true;
+            }
+        }
+
+        BulkSignupResponse toResponse() {
+            rejected.sort(Comparator.comparingLong(BulkSignupResult::getLine));
+            return new BulkSignupResponse(
+                    counts.getOrDefault(BulkSignupResult.Status.CREATED, 0L),
+                    counts.getOrDefault(BulkSignupResult.Status.DUPLICATE, 0L),
+                    counts.getOrDefault(BulkSignupResult.Status.INVALID, 0L),
+                    counts.getOrDefault(BulkSignupResult.Status.FAILED, 0L),
+                    counts.getOrDefault(BulkSignupResult.Status.RETRY, 0L),
+                    rejected,
+                    truncated
+            );
+        }
+    }
+}
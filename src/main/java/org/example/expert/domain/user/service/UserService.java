@@ -19,6 +19,7 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
 
     public UserResponse getUser(long userId) {
+        // 프로젝션 쿼리는 2차 캐시를 거치지 않으므로 엔티티로 읽어 users 리전 캐시를 그대로 씁니다.
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail());
     }
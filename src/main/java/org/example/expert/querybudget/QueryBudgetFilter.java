@@ -0,0 +1,45 @@
+package org.example.expert.querybudget;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나 동안 실행된 SQL 문장 수를 세어, 예산(query.budget.max-statements)을 넘긴 요청을 실행된 SQL 과 함께 WARN 으로 남깁니다.
+ * 응답이나 상태 코드는 바꾸지 않습니다.
+ */
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    // 로그가 너무 길어지지 않도록 앞에서부터 이만큼의 SQL 만 남깁니다.
+    private static final int MAX_LOGGED_STATEMENTS = 50;
+
+    private final int maxStatements;
+
+    public QueryBudgetFilter(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (QueryCounter.Scope scope = QueryCounter.open(MAX_LOGGED_STATEMENTS)) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                QueryCount count = scope.getCount();
+                if (count.statements() > maxStatements) {
+                    log.warn("SQL 예산 초과: {} {} statements={} (budget={}), entitiesLoaded={}, collectionsInitialized={}\n{}",
+                            request.getMethod(), request.getRequestURI(), count.statements(), maxStatements,
+                            count.entitiesLoaded(), count.collectionsInitialized(),
+                            String.join("\n", scope.getRecordedStatements()));
+                }
+            }
+        }
+    }
+}
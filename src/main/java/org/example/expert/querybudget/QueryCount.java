@@ -0,0 +1,7 @@
+package org.example.expert.querybudget;
+
+/**
+ * 한 범위(요청 하나, 테스트 하나) 안에서 실행된 SQL 문장 수, 로딩된 엔티티 수, 초기화된 지연 컬렉션 수.
+ */
+public record QueryCount(long statements, long entitiesLoaded, long collectionsInitialized) {
+}
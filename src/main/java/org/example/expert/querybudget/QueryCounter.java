@@ -0,0 +1,92 @@
+package org.example.expert.querybudget;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 현재 스레드에 열린 범위(Scope)에 SQL 문장, 엔티티 로딩, 지연 컬렉션 초기화 횟수를 셉니다.
+ * 범위가 열려 있지 않은 스레드에서는 아무것도 하지 않으므로 항상 켜 두어도 됩니다.
+ * 스레드 단위로 세므로 @Async 작업이나 StreamingResponseBody 처럼 다른 스레드에서 실행된 쿼리는 포함되지 않습니다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    /**
+     * 현재 스레드에 새 범위를 엽니다. 이미 열린 범위가 있으면 닫을 때 그 범위로 되돌아가며, 그동안의 횟수는 새 범위에만 쌓입니다.
+     *
+     * @param maxRecordedStatements 보관할 SQL 문자열 개수 (0 이면 횟수만 셉니다)
+     */
+    public static Scope open(int maxRecordedStatements) {
+        Scope scope = new Scope(CURRENT.get(), maxRecordedStatements);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void statementPrepared(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.addStatement(sql);
+        }
+    }
+
+    static void entityLoaded() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.entitiesLoaded++;
+        }
+    }
+
+    static void collectionInitialized() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.collectionsInitialized++;
+        }
+    }
+
+    // 한 스레드에서만 쓰이므로 동기화하지 않습니다.
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope previous;
+        private final int maxRecordedStatements;
+        private final List<String> recordedStatements;
+        private long statements;
+        private long entitiesLoaded;
+        private long collectionsInitialized;
+
+        private Scope(Scope previous, int maxRecordedStatements) {
+            this.previous = previous;
+            this.maxRecordedStatements = maxRecordedStatements;
+            this.recordedStatements = maxRecordedStatements > 0 ? new ArrayList<>() : Collections.emptyList();
+        }
+
+        private void addStatement(String sql) {
+            statements++;
+            if (recordedStatements.size() < maxRecordedStatements) {
+                recordedStatements.add(sql);
+            }
+        }
+
+        public QueryCount getCount() {
+            return new QueryCount(statements, entitiesLoaded, collectionsInitialized);
+        }
+
+        // 앞에서부터 maxRecordedStatements 개까지만 담겨 있습니다.
+        public List<String> getRecordedStatements() {
+            return Collections.unmodifiableList(recordedStatements);
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.expert.querybudget;
+
+import org.hibernate.HibernateException;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * 엔티티가 로딩될 때와 지연 컬렉션이 초기화될 때 현재 범위의 횟수를 올립니다.
+ * fetch join 으로 함께 읽은 컬렉션은 초기화 이벤트가 나지 않으므로, 컬렉션 초기화 횟수는 곧 추가로 나간 지연 로딩 쿼리 수입니다.
+ */
+public class QueryCountingEventListener implements PostLoadEventListener, InitializeCollectionEventListener {
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        QueryCounter.entityLoaded();
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) throws HibernateException {
+        QueryCounter.collectionInitialized();
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.expert.querybudget;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 JDBC 문장을 준비할 때마다 호출되어 현재 범위의 SQL 문장 수를 올립니다. SQL 은 바꾸지 않습니다.
+ * JDBC batch 로 묶인 INSERT/UPDATE 는 배치 하나당 한 번으로 셉니다.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.statementPrepared(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,19 @@
+-- IDENTITY -> pooled sequence ID 전환용 1회성 마이그레이션 (MySQL)
+--
+-- MySQL 에는 시퀀스가 없으므로 Hibernate 는 "<table>_seq" 테이블(next_val 컬럼 하나)로 시퀀스를 흉내 냅니다.
+-- pooled optimizer 는 읽어 온 값을 구간의 "상한"으로 보고 (값 - 50, 값] 범위를 메모리에서 나눠 주므로,
+-- 기존 ID 와 겹치지 않도록 MAX(id) + allocationSize(50) + 1 부터 시작합니다.
+-- 애플리케이션을 내린 상태에서 실행한 뒤 새 버전을 배포하세요.
+-- 기존 id 컬럼의 AUTO_INCREMENT 는 남아 있어도 Hibernate 가 항상 id 를 직접 넣으므로 동작에는 영향이 없습니다.
+
+CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT);
+INSERT INTO users_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM users;
+
+CREATE TABLE IF NOT EXISTS todos_seq (next_val BIGINT);
+INSERT INTO todos_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM todos;
+
+CREATE TABLE IF NOT EXISTS managers_seq (next_val BIGINT);
+INSERT INTO managers_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM managers;
+
+CREATE TABLE IF NOT EXISTS comments_seq (next_val BIGINT);
+INSERT INTO comments_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM comments;
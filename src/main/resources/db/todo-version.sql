@@ -0,0 +1,6 @@
+-- todos.version (@Version) 컬럼 추가용 1회성 마이그레이션 (MySQL)
+--
+-- 일정 조회 ETag 와 PATCH /todos/{todoId} 의 If-Match 비교에 쓰입니다.
+-- Hibernate 는 version 이 null 인 행을 갱신할 수 없으므로 기존 행은 0 으로 채웁니다.
+
+ALTER TABLE todos ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
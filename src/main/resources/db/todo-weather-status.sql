@@ -0,0 +1,9 @@
+-- todos.weather_status 컬럼과 보강 대기 건 조회용 인덱스 추가용 1회성 마이그레이션 (MySQL)
+--
+-- weather.enrichment.async=true 이면 일정은 PENDING 으로 저장되고, 보강 작업이 RESOLVED 또는 FAILED(예보에 없는 날짜)로 바꿉니다.
+-- 기존 행은 이미 날씨가 채워져 있으므로 RESOLVED 로 채웁니다. (null 도 확정으로 취급하지만 인덱스 조회를 위해 값을 넣어 둡니다)
+-- Todo 는 @Enumerated(EnumType.STRING) 이므로 문자열 컬럼으로 만듭니다.
+
+ALTER TABLE todos ADD COLUMN weather_status VARCHAR(16) NULL;
+UPDATE todos SET weather_status = 'RESOLVED' WHERE weather_status IS NULL;
+CREATE INDEX idx_todos_weather_status ON todos (weather_status);
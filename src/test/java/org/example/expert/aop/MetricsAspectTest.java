@@ -0,0 +1,116 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsAspectTest {
+
+    private PrometheusMeterRegistry meterRegistry;
+    private MetricsAspect metricsAspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        metricsAspect = new MetricsAspect(meterRegistry);
+    }
+
+    @Test
+    public void 서비스_메서드_실행_시간을_클래스_메서드_결과별로_기록한다() {
+        // given
+        SampleService service = proxy(new SampleService());
+
+        // when
+        service.work();
+        service.work();
+
+        // then
+        Timer timer = meterRegistry.find(MetricsAspect.SERVICE_TIMER)
+                .tags("class", "SampleService", "method", "work", "outcome", "SUCCESS", "exception", "none")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(2, timer.count());
+        // /actuator/prometheus 와 같은 형식으로 내보낼 때 histogram_quantile() 에 쓸 버킷이 함께 나가야 합니다.
+        String scrape = meterRegistry.scrape();
+        assertTrue(scrape.contains("app_service_calls_seconds_bucket{"), "percentile histogram 버킷이 있어야 합니다.\n" + scrape);
+        assertTrue(scrape.contains("app_service_calls_seconds_count{"), scrape);
+    }
+
+    @Test
+    public void 예외가_발생하면_예외_타입과_함께_ERROR_로_기록하고_그대로_던진다() {
+        // given
+        SampleService service = proxy(new SampleService());
+
+        // when
+        assertThrows(InvalidRequestException.class, service::fail);
+
+        // then
+        Timer timer = meterRegistry.find(MetricsAspect.SERVICE_TIMER)
+                .tags("method", "fail", "outcome", "ERROR", "exception", "InvalidRequestException")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    public void 리포지토리_메서드는_리포지토리_인터페이스_이름으로_기록한다() {
+        // given
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleRepositoryImpl());
+        factory.addInterface(SampleRepository.class);
+        factory.addAspect(metricsAspect);
+        SampleRepository repository = factory.getProxy();
+
+        // when
+        repository.countSamples();
+
+        // then
+        Timer timer = meterRegistry.find(MetricsAspect.REPOSITORY_TIMER)
+                .tags("class", "SampleRepository", "method", "countSamples")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    private SampleService proxy(SampleService target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(metricsAspect);
+        return factory.getProxy();
+    }
+
+    @Service
+    static class SampleService {
+
+        public String work() {
+            return "done";
+        }
+
+        public void fail() {
+            throw new InvalidRequestException("fail");
+        }
+    }
+
+    interface SampleRepository extends Repository<Object, Long> {
+
+        long countSamples();
+    }
+
+    static class SampleRepositoryImpl implements SampleRepository {
+
+        @Override
+        public long countSamples() {
+            return 3;
+        }
+    }
+}
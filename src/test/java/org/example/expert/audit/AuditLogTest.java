@@ -0,0 +1,114 @@
+package org.example.expert.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditLogTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-10-01T03:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void 이벤트를_한_줄에_하나씩_NDJSON_으로_쓴다() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuditLog auditLog = auditLog(meterRegistry, 1024, Long.MAX_VALUE);
+        auditLog.start();
+
+        // when
+        auditLog.record(event(1L, null));
+        auditLog.record(event(2L, "InvalidRequestException"));
+        auditLog.stop();
+
+        // then
+        List<String> lines = Files.readAllLines(directory.resolve("audit-2024-10-01.ndjson"));
+        assertEquals(2, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals(1L, first.get("userId").asLong());
+        assertEquals("CommentAdminController.deleteComments", first.get("action").asText());
+        assertEquals("SUCCESS", first.get("outcome").asText());
+        assertEquals("2024-10-01T03:00:00Z", first.get("occurredAt").asText());
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertEquals("ERROR", second.get("outcome").asText());
+        assertEquals("InvalidRequestException", second.get("exception").asText());
+        assertEquals(2.0, meterRegistry.get("audit.events.written").counter().count());
+    }
+
+    @Test
+    public void 버퍼가_가득_차면_이벤트를_버리고_버린_건수를_센다() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // writer 를 시작하지 않아 버퍼가 비워지지 않는 상태
+        AuditLog auditLog = auditLog(meterRegistry, 2, Long.MAX_VALUE);
+
+        // when
+        boolean first = auditLog.record(event(1L, null));
+        boolean second = auditLog.record(event(2L, null));
+        boolean third = auditLog.record(event(3L, null));
+
+        // then
+        assertTrue(first && second);
+        assertFalse(third);
+        assertEquals(1.0, meterRegistry.get("audit.events.dropped").counter().count());
+        assertEquals(2.0, meterRegistry.get("audit.queue.depth").gauge().value());
+    }
+
+    @Test
+    public void 파일이_상한_크기를_넘으면_다음_번호의_파일로_넘어간다() throws Exception {
+        // given
+        AuditLog auditLog = auditLog(new SimpleMeterRegistry(), 1024, 400);
+        auditLog.start();
+
+        // when
+        for (long i = 0; i < 10; i++) {
+            auditLog.record(event(i, null));
+        }
+        auditLog.stop();
+
+        // then
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> auditFiles = files.sorted().toList();
+            assertTrue(auditFiles.size() > 1);
+            assertTrue(auditFiles.contains(directory.resolve("audit-2024-10-01.1.ndjson")));
+        }
+        long lines = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                assertTrue(Files.size(file) <= 400);
+                lines += Files.readAllLines(file).size();
+            }
+        }
+        assertEquals(10, lines);
+    }
+
+    private AuditLog auditLog(SimpleMeterRegistry meterRegistry, int capacity, long maxFileBytes) {
+        return new AuditLog(objectMapper.getFactory(), meterRegistry, new AuditRingBuffer<>(capacity),
+                AuditOverflowPolicy.DROP, Duration.ZERO,
+                new RollingNdjsonFile(directory, "audit", maxFileBytes, CLOCK), CLOCK);
+    }
+
+    private AuditEvent event(Long userId, String exception) {
+        return new AuditEvent(CLOCK.millis(), userId, "CommentAdminController.deleteComments",
+                "DELETE", "/admin/comments/1", null, 1_500, exception);
+    }
+}
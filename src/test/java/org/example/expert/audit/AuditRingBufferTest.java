@@ -0,0 +1,112 @@
+package org.example.expert.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditRingBufferTest {
+
+    @Test
+    public void 가득_차면_기다리지_않고_false_를_돌려준다() {
+        // given
+        AuditRingBuffer<Integer> ringBuffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ringBuffer.offer(i));
+        }
+
+        // when
+        boolean offered = ringBuffer.offer(4);
+
+        // then
+        assertFalse(offered);
+        assertEquals(4, ringBuffer.size());
+        assertEquals(0, ringBuffer.poll());
+        assertTrue(ringBuffer.offer(4));
+    }
+
+    @Test
+    public void 넣은_순서대로_꺼내고_비어_있으면_null_을_돌려준다() {
+        // given
+        AuditRingBuffer<Integer> ringBuffer = new AuditRingBuffer<>(8);
+        // 여러 바퀴를 돌아도 sequence 가 맞는지 확인합니다.
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 8; i++) {
+                ringBuffer.offer(round * 8 + i);
+            }
+
+            // when
+            List<Integer> drained = new ArrayList<>();
+            ringBuffer.drainTo(drained, 100);
+
+            // then
+            assertEquals(8, drained.size());
+            assertEquals(round * 8, drained.get(0));
+            assertEquals(round * 8 + 7, drained.get(7));
+        }
+        assertNull(ringBuffer.poll());
+    }
+
+    @Test
+    public void 여러_생산자가_동시에_넣어도_빠지거나_중복되는_이벤트가_없다() throws Exception {
+        // given
+        int producers = 4;
+        int perProducer = 50_000;
+        AuditRingBuffer<Integer> ringBuffer = new AuditRingBuffer<>(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!ringBuffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+
+        BitSet seen = new BitSet(producers * perProducer);
+        int received = 0;
+        List<Integer> batch = new ArrayList<>();
+        while (received < producers * perProducer) {
+            batch.clear();
+            ringBuffer.drainTo(batch, 256);
+            for (Integer value : batch) {
+                assertFalse(seen.get(value), "중복: " + value);
+                seen.set(value);
+            }
+            received += batch.size();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(producers * perProducer, seen.cardinality());
+        assertNull(ringBuffer.poll());
+    }
+
+    @Test
+    public void 용량은_2의_거듭제곱이어야_한다() {
+        assertThrows(IllegalArgumentException.class, () -> new AuditRingBuffer<>(1000));
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.expert.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class WeatherCircuitBreakerTest {
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private Clock clock;
+
+    private WeatherCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new WeatherCircuitBreaker(2, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    public void 연속_실패가_임계치에_닿으면_열리고_호출을_막는다() {
+        // given
+        given(clock.instant()).willReturn(START);
+
+        // when
+        circuitBreaker.recordFailure();
+        boolean allowedAfterOneFailure = circuitBreaker.allowRequest();
+        circuitBreaker.recordFailure();
+
+        // then
+        assertTrue(allowedAfterOneFailure);
+        assertEquals(WeatherCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    public void openDuration_이_지나면_시험_호출을_정확히_한_번만_허용한다() {
+        // given
+        given(clock.instant()).willReturn(START);
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        given(clock.instant()).willReturn(START.plusSeconds(31));
+
+        // when
+        boolean trial = circuitBreaker.allowRequest();
+        boolean concurrent = circuitBreaker.allowRequest();
+
+        // then
+        assertTrue(trial);
+        assertFalse(concurrent);
+        assertEquals(WeatherCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    public void 시험_호출이_성공하면_닫힌다() {
+        // given
+        given(clock.instant()).willReturn(START);
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        given(clock.instant()).willReturn(START.plusSeconds(31));
+        circuitBreaker.allowRequest();
+
+        // when
+        circuitBreaker.recordSuccess();
+
+        // then
+        assertEquals(WeatherCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.allowRequest());
+        assertTrue(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    public void 시험_호출이_실패하면_임계치와_관계없이_다시_열린다() {
+        // given
+        given(clock.instant()).willReturn(START);
+        circuitBreaker.recordFailure();
+        circuitBreaker.recordFailure();
+        given(clock.instant()).willReturn(START.plusSeconds(31));
+        circuitBreaker.allowRequest();
+
+        // when
+        circuitBreaker.recordFailure();
+
+        // then
+        assertEquals(WeatherCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.allowRequest());
+    }
+}
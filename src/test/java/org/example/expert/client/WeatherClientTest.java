@@ -0,0 +1,134 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.MonthDay;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class WeatherClientTest {
+    private static final Instant START = Instant.parse("2026-03-01T00:00:00Z");
+    private static final MonthDay MARCH_FIRST = MonthDay.of(3, 1);
+
+    @Mock
+    private RestTemplate restTemplate;
+    @Mock
+    private Clock clock;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() {
+        weatherClient = new WeatherClient(restTemplate, "http://localhost", Duration.ofHours(48),
+                Duration.ofSeconds(10), 2, Duration.ofSeconds(5), taskScheduler, clock);
+    }
+
+    @Test
+    public void 받아_둔_예보가_있으면_외부_호출없이_조회한다() {
+        // given
+        given(clock.instant()).willReturn(START);
+        givenForecast();
+
+        // when
+        String first = weatherClient.getWeather(MARCH_FIRST);
+        String second = weatherClient.getWeather(MARCH_FIRST);
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    public void 예보에_없는_날짜는_빈_값을_돌려준다() {
+        // given
+        given(clock.instant()).willReturn(START);
+        givenForecast();
+
+        // when
+        Optional<String> weather = weatherClient.findWeather(MonthDay.of(2, 29));
+
+        // then
+        assertEquals(Optional.empty(), weather);
+    }
+
+    @Test
+    public void 갱신이_모두_실패해도_staleTolerance_안이면_마지막_예보를_쓴다() {
+        // given
+        given(clock.instant()).willReturn(START);
+        givenForecast();
+        weatherClient.getWeather(MARCH_FIRST);
+        willThrow(new ResourceAccessException("timeout"))
+                .given(restTemplate).getForEntity(any(URI.class), eq(WeatherDto[].class));
+        given(clock.instant()).willReturn(START.plus(Duration.ofHours(24)));
+        // 예약된 재시도를 바로 실행합니다.
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+
+        // when
+        weatherClient.refresh();
+        String weather = weatherClient.getWeather(MARCH_FIRST);
+
+        // then
+        assertEquals("Sunny", weather);
+        // 처음 조회 1번 + 갱신 시도 2번, 재시도는 sleep 대신 retry delay 뒤로 한 번만 예약합니다.
+        verify(restTemplate, times(3)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), eq(START.plus(Duration.ofHours(24)).plusSeconds(5)));
+    }
+
+    @Test
+    public void 예보가_만료되고_조회도_실패하면_backoff_동안은_외부_호출없이_바로_실패한다() {
+        // given
+        given(clock.instant()).willReturn(START);
+        givenForecast();
+        weatherClient.getWeather(MARCH_FIRST);
+        willThrow(new ResourceAccessException("timeout"))
+                .given(restTemplate).getForEntity(any(URI.class), eq(WeatherDto[].class));
+        given(clock.instant()).willReturn(START.plus(Duration.ofHours(49)));
+
+        // when & then
+        assertThrows(ServerException.class, () -> weatherClient.getWeather(MARCH_FIRST));
+        assertThrows(ServerException.class, () -> weatherClient.getWeather(MARCH_FIRST));
+        verify(restTemplate, times(2)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+
+        // backoff 가 지나면 다시 시도합니다.
+        given(clock.instant()).willReturn(START.plus(Duration.ofHours(49)).plusSeconds(11));
+        givenForecast();
+        assertEquals("Sunny", weatherClient.getWeather(MARCH_FIRST));
+    }
+
+    private void givenForecast() {
+        // 앞에서 예외를 던지도록 바꾼 stub 을 다시 덮어쓸 수 있게 willReturn().given() 형태로 씁니다.
+        willReturn(ResponseEntity.ok(new WeatherDto[]{new WeatherDto("03-01", "Sunny"), new WeatherDto("03-02", "Rainy")}))
+                .given(restTemplate).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+}
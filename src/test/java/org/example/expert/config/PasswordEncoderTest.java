@@ -1,17 +1,21 @@
 package org.example.expert.config;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
-    private PasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder(100, 16);
+
+    // 스프링 컨텍스트 밖에서 만들었으므로 @PreDestroy 대신 직접 해시 풀을 종료합니다.
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
 
     @Test
     void matches_메서드가_정상적으로_동작한다() {
@@ -25,4 +29,15 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 현재_cost보다_낮은_해시는_재해시가_필요하다() {
+        // given
+        String encodedPassword = passwordEncoder.encode("testPassword");
+        ReflectionTestUtils.setField(passwordEncoder, "cost", 10);
+
+        // when & then
+        assertTrue(passwordEncoder.needsRehash(encodedPassword));
+        assertFalse(passwordEncoder.needsRehash(passwordEncoder.encode("testPassword")));
+    }
 }
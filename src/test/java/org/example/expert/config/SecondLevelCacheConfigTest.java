@@ -0,0 +1,46 @@
+package org.example.expert.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SecondLevelCacheConfigTest {
+
+    @Test
+    void 캐시를_끄면_통계도_수집하지_않는다() {
+        // given
+        SecondLevelCacheConfig config = new SecondLevelCacheConfig(false, 100, Duration.ofMinutes(1));
+        Map<String, Object> properties = new HashMap<>();
+
+        // when
+        config.secondLevelCacheCustomizer().customize(properties);
+
+        // then
+        assertEquals(false, properties.get(AvailableSettings.USE_SECOND_LEVEL_CACHE));
+        assertFalse(properties.containsKey(AvailableSettings.GENERATE_STATISTICS));
+        assertFalse(properties.containsKey(AvailableSettings.CACHE_REGION_FACTORY));
+    }
+
+    @Test
+    void 캐시를_켜면_통계를_수집하되_세션_지표_로그는_끈다() {
+        // given
+        SecondLevelCacheConfig config = new SecondLevelCacheConfig(true, 100, Duration.ofMinutes(1));
+        Map<String, Object> properties = new HashMap<>();
+
+        // when
+        config.secondLevelCacheCustomizer().customize(properties);
+
+        // then
+        assertEquals(true, properties.get(AvailableSettings.USE_SECOND_LEVEL_CACHE));
+        assertEquals(true, properties.get(AvailableSettings.GENERATE_STATISTICS));
+        assertEquals(false, properties.get(AvailableSettings.LOG_SESSION_METRICS));
+        assertTrue(properties.containsKey(AvailableSettings.CACHE_REGION_FACTORY));
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class VerifiedClaimsCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    // Caffeine 의 시간(ticker)만 앞으로 돌리고, exp 계산에 쓰는 벽시계는 NOW 로 고정합니다.
+    private final AtomicLong tickerNanos = new AtomicLong();
+    private VerifiedClaimsCache claimsCache;
+
+    @BeforeEach
+    void setUp() {
+        claimsCache = new VerifiedClaimsCache(2, Clock.fixed(NOW, ZoneOffset.UTC), tickerNanos::get, Runnable::run);
+    }
+
+    @Test
+    void 캐시된_토큰은_hit_처음_보는_토큰은_miss_로_센다() {
+        // given
+        Claims claims = claimsExpiringIn(Duration.ofHours(1));
+        claimsCache.put("token-a", claims);
+
+        // when
+        Claims hit = claimsCache.get("token-a");
+        Claims miss = claimsCache.get("token-b");
+
+        // then
+        assertSame(claims, hit);
+        assertNull(miss);
+        assertEquals(1, claimsCache.getHitCount());
+        assertEquals(1, claimsCache.getMissCount());
+    }
+
+    @Test
+    void exp_가_없는_토큰은_캐시하지_않는다() {
+        // given
+        Claims claims = mock(Claims.class);
+
+        // when
+        claimsCache.put("token-a", claims);
+
+        // then
+        assertNull(claimsCache.get("token-a"));
+        assertEquals(0, claimsCache.size());
+    }
+
+    @Test
+    void exp_가_지나면_항목마다_만료된다() {
+        // given
+        claimsCache.put("short", claimsExpiringIn(Duration.ofSeconds(30)));
+        Claims longLived = claimsExpiringIn(Duration.ofHours(1));
+        claimsCache.put("long", longLived);
+
+        // when
+        tickerNanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // then
+        assertNull(claimsCache.get("short"));
+        assertSame(longLived, claimsCache.get("long"));
+    }
+
+    @Test
+    void maxSize_를_넘으면_항목을_밀어낸다() {
+        // given
+        claimsCache.put("token-a", claimsExpiringIn(Duration.ofHours(1)));
+        claimsCache.put("token-b", claimsExpiringIn(Duration.ofHours(1)));
+        claimsCache.put("token-c", claimsExpiringIn(Duration.ofHours(1)));
+
+        // when
+        claimsCache.cleanUp();
+
+        // then
+        assertEquals(2, claimsCache.size());
+    }
+
+    private Claims claimsExpiringIn(Duration duration) {
+        Claims claims = mock(Claims.class);
+        given(claims.getExpiration()).willReturn(Date.from(NOW.plus(duration)));
+        return claims;
+    }
+}
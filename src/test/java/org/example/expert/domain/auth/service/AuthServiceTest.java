@@ -129,4 +129,23 @@ public class AuthServiceTest {
         assertNotNull(result);
         assertEquals(bearerToken, result.getBearerToken());
     }
+
+    @Test
+    public void 로그인에_성공하면_오래된_cost의_비밀번호를_재해시한다() {
+        // given
+        SigninRequest request = new SigninRequest("email", "password");
+
+        User user = new User("email", "oldEncodedPassword", UserRole.USER);
+        given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(request.getPassword(), "oldEncodedPassword")).willReturn(true);
+        given(passwordEncoder.needsRehash("oldEncodedPassword")).willReturn(true);
+        given(passwordEncoder.encode(request.getPassword())).willReturn("newEncodedPassword");
+        given(jwtUtil.createToken(user.getId(), user.getEmail(), UserRole.USER)).willReturn("Bearer jwt-token");
+
+        // when
+        authService.signin(request);
+
+        // then
+        assertEquals("newEncodedPassword", user.getPassword());
+    }
 }
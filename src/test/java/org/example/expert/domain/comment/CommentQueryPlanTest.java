@@ -0,0 +1,100 @@
+package org.example.expert.domain.comment;
+
+import org.example.expert.config.QueryBudgetConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.repository.CommentSpecifications;
+import org.example.expert.domain.todo.entity.TodoSearchIndexListener;
+import org.example.expert.querybudget.QueryCounter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 관리자 댓글 일괄 삭제(todoId + 기간) 가 CommentSpecifications / CommentRepositoryImpl.findIdsAfter 로 실제 실행하는
+ * COUNT 와 ID chunk SQL 을 기록해 H2 에서 EXPLAIN 하고, 테이블 전체 스캔 없이 idx_comments_todo_id_created_at_id 범위 스캔을 타는지 확인합니다.
+ * H2 의 ANALYZE 는 열린 트랜잭션을 커밋하므로, 데이터는 테스트 트랜잭션 밖에서 클래스당 한 번 넣고 끝나면 직접 지웁니다.
+ */
+@DataJpaTest
+@Import({TodoSearchIndexListener.class, QueryBudgetConfig.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CommentQueryPlanTest {
+
+    private static final long TODO_ID = 7L;
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 7, 2, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 7, 10, 0, 0);
+    private static final long AFTER_ID = 0L;
+    private static final int CHUNK_SIZE = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @BeforeAll
+    void seed() {
+        // 일정 50개에 댓글 5000건(일정마다 100건, 2시간 간격)을 나눠 넣어 todo_id 조건의 선택도가 충분히 높게 만듭니다.
+        jdbcTemplate.execute("INSERT INTO users (id, email, password, user_role) " +
+                "VALUES (1, 'plan@example.com', 'password', 'USER')");
+        jdbcTemplate.execute("INSERT INTO todos (id, title, contents, weather, weather_status, version, user_id, created_at, modified_at) " +
+                "SELECT X, 'title', 'contents', 'Sunny', 'RESOLVED', 0, 1, TIMESTAMP '2024-07-01 00:00:00', TIMESTAMP '2024-07-01 00:00:00' " +
+                "FROM SYSTEM_RANGE(1, 50)");
+        jdbcTemplate.execute("INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) " +
+                "SELECT X, 'contents', 1, MOD(X, 50) + 1, " +
+                "DATEADD(HOUR, (X / 50) * 2, TIMESTAMP '2024-07-01 00:00:00'), DATEADD(HOUR, (X / 50) * 2, TIMESTAMP '2024-07-01 00:00:00') " +
+                "FROM SYSTEM_RANGE(1, 5000)");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.execute("DELETE FROM comments");
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @Test
+    void 일정과_기간_조건은_복합_인덱스_범위_스캔을_사용한다() {
+        // given
+        Specification<Comment> spec = CommentSpecifications.moderationTarget(null, TODO_ID, FROM, TO);
+        List<String> statements;
+        try (QueryCounter.Scope scope = QueryCounter.open(10)) {
+            commentRepository.count(spec);
+            commentRepository.findIdsAfter(spec, AFTER_ID, CHUNK_SIZE);
+            statements = scope.getRecordedStatements();
+        }
+
+        // then (COUNT + ID chunk)
+        assertEquals(2, statements.size(), "SQL 이 COUNT + ID chunk 가 아닙니다.\n" + statements);
+        for (String sql : statements) {
+            // when
+            String plan = explain(sql);
+
+            // then
+            assertTrue(plan.contains("IDX_COMMENTS_TODO_ID_CREATED_AT_ID"), "복합 인덱스를 사용하지 않습니다.\n" + sql + "\n" + plan);
+            assertFalse(plan.contains("TABLESCAN"), "테이블 전체 스캔을 합니다.\n" + sql + "\n" + plan);
+        }
+    }
+
+    // 바인딩 순서는 todo_id, 기간, (ID chunk 만) afterId, limit 입니다.
+    private String explain(String sql) {
+        Object[] parameters = {TODO_ID, FROM, TO, AFTER_ID, CHUNK_SIZE};
+        int placeholders = (int) sql.chars().filter(c -> c == '?').count();
+        Object[] arguments = Arrays.copyOf(parameters, placeholders);
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, arguments).toUpperCase();
+    }
+}
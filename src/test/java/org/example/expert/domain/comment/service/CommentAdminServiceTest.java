@@ -1,31 +1,146 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.domain.comment.dto.request.CommentBulkDeleteRequest;
+import org.example.expert.domain.comment.dto.response.CommentModerationJobResponse;
+import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import static org.mockito.BDDMockito.willDoNothing;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class CommentAdminServiceTest {
     @Mock
     private CommentRepository commentRepository;
-    @InjectMocks
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ExecutorService executor;
+
     private CommentAdminService commentAdminService;
 
+    @BeforeEach
+    void setUp() {
+        commentAdminService = new CommentAdminService(commentRepository, transactionTemplate, executor, 2, 5);
+    }
+
     @Test
     public void comment_삭제를_성공한다() {
         // given
         Long commentId = 1L;
-        willDoNothing().given(commentRepository).deleteById(commentId);
+        given(commentRepository.deleteByIdIn(List.of(commentId))).willReturn(1);
         // when
         commentAdminService.deleteComment(commentId);
         // then
-        verify(commentRepository, times(1)).deleteById(commentId);
+        verify(commentRepository, times(1)).deleteByIdIn(List.of(commentId));
+    }
+
+    @Test
+    public void ID_목록은_중복을_빼고_정렬해_chunk_마다_한_번씩_지운다() {
+        // given
+        runTransactionsInline();
+        given(commentRepository.deleteByIdIn(List.of(1L, 2L))).willReturn(2);
+        given(commentRepository.deleteByIdIn(List.of(3L, 5L))).willReturn(1);
+        CommentBulkDeleteRequest request = new CommentBulkDeleteRequest(List.of(3L, 1L, 2L, 3L, 5L), null, null, null, null);
+
+        // when
+        CommentModerationJobResponse result = commentAdminService.deleteComments(request);
+
+        // then
+        assertEquals(CommentModerationJobResponse.Status.COMPLETED, result.getStatus());
+        assertEquals(4, result.getEstimatedCount());
+        assertEquals(3, result.getDeletedCount());
+        assertEquals(2, result.getChunkCount());
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    public void 작성자_기준_삭제는_마지막으로_지운_ID_다음부터_이어서_읽는다() {
+        // given
+        runTransactionsInline();
+        given(commentRepository.count(anySpec())).willReturn(3L);
+        given(commentRepository.findIdsAfter(anySpec(), eq(0L), eq(2))).willReturn(List.of(10L, 11L));
+        given(commentRepository.findIdsAfter(anySpec(), eq(11L), eq(2))).willReturn(List.of(15L));
+        given(commentRepository.deleteByIdIn(List.of(10L, 11L))).willReturn(2);
+        given(commentRepository.deleteByIdIn(List.of(15L))).willReturn(1);
+
+        // when
+        CommentModerationJobResponse result = commentAdminService.deleteComments(new CommentBulkDeleteRequest(null, 7L, null, null, null));
+
+        // then
+        assertEquals(CommentModerationJobResponse.Status.COMPLETED, result.getStatus());
+        assertEquals(3, result.getDeletedCount());
+        assertEquals(2, result.getChunkCount());
+    }
+
+    @Test
+    public void 대상이_많으면_백그라운드로_넘기고_작업_ID_로_진행_상황을_조회한다() {
+        // given
+        runTransactionsInline();
+        given(commentRepository.count(anySpec())).willReturn(100L);
+        given(commentRepository.findIdsAfter(anySpec(), eq(0L), eq(2))).willReturn(List.of(1L));
+        given(commentRepository.deleteByIdIn(List.of(1L))).willReturn(1);
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+
+        // when
+        CommentModerationJobResponse queued = commentAdminService.deleteComments(new CommentBulkDeleteRequest(null, null, 3L, null, null));
+
+        // then
+        assertEquals(CommentModerationJobResponse.Status.QUEUED, queued.getStatus());
+        verify(executor).execute(task.capture());
+        task.getValue().run();
+        CommentModerationJobResponse finished = commentAdminService.getModerationJob(queued.getJobId());
+        assertEquals(CommentModerationJobResponse.Status.COMPLETED, finished.getStatus());
+        assertEquals(1, finished.getDeletedCount());
+    }
+
+    @Test
+    public void 삭제_대상을_여러_개_지정하면_예외가_발생한다() {
+        // given
+        CommentBulkDeleteRequest request = new CommentBulkDeleteRequest(null, 1L, 2L, null, null);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> commentAdminService.deleteComments(request));
+        assertEquals("commentIds, userId, todoId 중 하나만 지정해 주세요.", exception.getMessage());
+        verify(commentRepository, never()).deleteByIdIn(any());
+    }
+
+    @Test
+    public void 없는_작업_ID_를_조회하면_예외가_발생한다() {
+        // when & then
+        assertThrows(NotFoundException.class, () -> commentAdminService.getModerationJob("unknown"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Specification<Comment> anySpec() {
+        return any(Specification.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionsInline() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
     }
 }
@@ -1,11 +1,17 @@
 package org.example.expert.domain.comment.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.JsonStreamWriter;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentCursorResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.enums.StreamFormat;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
@@ -15,16 +21,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Arrays;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -33,6 +47,10 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Spy
+    private JsonStreamWriter jsonStreamWriter = new JsonStreamWriter(new ObjectMapper());
     @InjectMocks
     private CommentService commentService;
 
@@ -79,18 +97,10 @@ class CommentServiceTest {
         // given
         long todoId = 1L;
 
-        User user1 = new User("email1", "password1", UserRole.USER);
-        User user2 = new User("email2", "password2", UserRole.USER);
-
-        Todo todo1 = new Todo("title1", "contents1", "Sunny", user1);
-        Todo todo2 = new Todo("title2", "contents2", "Sunny", user2);
-
-        Comment comment1 = new Comment("contents1", user1, todo1);
-        Comment comment2 = new Comment("contents2", user2, todo2);
-
-        List<Comment> commentList = Arrays.asList(comment1, comment2);
+        CommentResponse response1 = new CommentResponse(1L, "contents1", 1L, "email1");
+        CommentResponse response2 = new CommentResponse(2L, "contents2", 2L, "email2");
 
-        given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(commentList);
+        given(commentRepository.findResponsesByTodoId(todoId)).willReturn(List.of(response1, response2));
 
         // when
         List<CommentResponse> result = commentService.getComments(todoId);
@@ -98,13 +108,126 @@ class CommentServiceTest {
         // then
         assertNotNull(result);
         assertEquals(2, result.size());
-        assertEquals(comment1.getId(), result.get(0).getId());
-        assertEquals(comment1.getContents(), result.get(0).getContents());
-        assertEquals(comment1.getUser().getId(), result.get(0).getUser().getId());
-        assertEquals(comment1.getUser().getEmail(), result.get(0).getUser().getEmail());
-        assertEquals(comment2.getId(), result.get(1).getId());
-        assertEquals(comment2.getContents(), result.get(1).getContents());
-        assertEquals(comment2.getUser().getId(), result.get(1).getUser().getId());
-        assertEquals(comment2.getUser().getEmail(), result.get(1).getUser().getEmail());
+        assertEquals(1L, result.get(0).getId());
+        assertEquals("contents1", result.get(0).getContents());
+        assertEquals(1L, result.get(0).getUser().getId());
+        assertEquals("email1", result.get(0).getUser().getEmail());
+        assertEquals(2L, result.get(1).getId());
+        assertEquals("contents2", result.get(1).getContents());
+        assertEquals(2L, result.get(1).getUser().getId());
+        assertEquals("email2", result.get(1).getUser().getEmail());
+    }
+
+    @Test
+    public void comment를_커서로_첫_페이지_조회한다() {
+        // given
+        long todoId = 1L;
+        LocalDateTime createdAt = LocalDateTime.of(2024, 10, 1, 12, 0, 0);
+        User user = new User("email", "password", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", user);
+
+        Comment comment1 = new Comment("contents1", user, todo);
+        Comment comment2 = new Comment("contents2", user, todo);
+        ReflectionTestUtils.setField(comment1, "id", 1L);
+        ReflectionTestUtils.setField(comment1, "createdAt", createdAt);
+        ReflectionTestUtils.setField(comment2, "id", 2L);
+        ReflectionTestUtils.setField(comment2, "createdAt", createdAt);
+
+        given(commentRepository.findFirstPageByTodoId(eq(todoId), any(Pageable.class))).willReturn(List.of(comment1, comment2));
+
+        // when
+        CommentCursorResponse result = commentService.getCommentsByCursor(todoId, "", 1);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertEquals("contents1", result.getContent().get(0).getContents());
+        assertTrue(result.isHasNext());
+        KeysetCursor nextCursor = KeysetCursor.decode(result.getNextCursor());
+        assertEquals(createdAt, nextCursor.getTimestamp());
+        assertEquals(1L, nextCursor.getId());
+    }
+
+    @Test
+    public void 마지막_페이지에서도_새_댓글을_이어받을_커서를_돌려준다() {
+        // given
+        long todoId = 1L;
+        LocalDateTime since = LocalDateTime.of(2024, 10, 1, 12, 0, 0);
+        String cursor = new KeysetCursor(since, 10L).encode();
+        User user = new User("email", "password", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", user);
+
+        Comment comment = new Comment("new", user, todo);
+        ReflectionTestUtils.setField(comment, "id", 11L);
+        ReflectionTestUtils.setField(comment, "createdAt", since.plusMinutes(1));
+
+        given(commentRepository.findNextPageByTodoId(eq(todoId), eq(since), eq(10L), any(Pageable.class))).willReturn(List.of(comment));
+
+        // when
+        CommentCursorResponse result = commentService.getCommentsByCursor(todoId, cursor, 50);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        assertEquals(11L, KeysetCursor.decode(result.getNextCursor()).getId());
+    }
+
+    @Test
+    public void 새_댓글이_없으면_받은_커서를_그대로_돌려준다() {
+        // given
+        long todoId = 1L;
+        String cursor = new KeysetCursor(LocalDateTime.of(2024, 10, 1, 12, 0, 0), 10L).encode();
+
+        given(commentRepository.findNextPageByTodoId(eq(todoId), any(LocalDateTime.class), eq(10L), any(Pageable.class))).willReturn(List.of());
+
+        // when
+        CommentCursorResponse result = commentService.getCommentsByCursor(todoId, cursor, 50);
+
+        // then
+        assertTrue(result.getContent().isEmpty());
+        assertFalse(result.isHasNext());
+        assertEquals(cursor, result.getNextCursor());
+    }
+
+    @Test
+    public void comment를_NDJSON으로_스트리밍하고_엔티티를_분리한다() throws Exception {
+        // given
+        long todoId = 1L;
+        User user = new User("email", "password", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", user);
+        Comment comment1 = new Comment("contents1", user, todo);
+        Comment comment2 = new Comment("contents2", user, todo);
+
+        given(commentRepository.streamByTodoIdWithUser(todoId)).willReturn(Stream.of(comment1, comment2));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long count = commentService.streamComments(todoId, StreamFormat.NDJSON, outputStream);
+
+        // then
+        assertEquals(2, count);
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"contents\":\"contents1\""));
+        assertTrue(lines[1].contains("\"contents\":\"contents2\""));
+        verify(entityManager).detach(comment1);
+        verify(entityManager).detach(comment2);
+    }
+
+    @Test
+    public void comment를_JSON_배열로_스트리밍한다() throws Exception {
+        // given
+        long todoId = 1L;
+        User user = new User("email", "password", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "Sunny", user);
+
+        given(commentRepository.streamByTodoIdWithUser(todoId)).willReturn(Stream.of(new Comment("contents1", user, todo)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        commentService.streamComments(todoId, StreamFormat.JSON, outputStream);
+
+        // then
+        List<?> body = new ObjectMapper().readValue(outputStream.toByteArray(), List.class);
+        assertEquals(1, body.size());
     }
 }
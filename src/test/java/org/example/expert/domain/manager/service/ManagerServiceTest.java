@@ -1,7 +1,10 @@
 package org.example.expert.domain.manager.service;
 
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ForbiddenException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.NotFoundException;
+import org.example.expert.domain.manager.dto.request.ManagerBatchSaveRequest;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
@@ -24,6 +27,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -43,7 +47,7 @@ class ManagerServiceTest {
     public void manager_목록_조회_시_Todo가_없다면_IRE_에러를_던진다() {
         // given
         long todoId = 1L;
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(List.of());
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
@@ -126,23 +130,31 @@ class ManagerServiceTest {
     public void manager_목록_조회에_성공한다() {
         // given
         long todoId = 1L;
-        User user = new User("user1@example.com", "password", UserRole.USER);
-        Todo todo = new Todo("Title", "Contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo, "id", todoId);
+        ManagerResponse managerResponse = new ManagerResponse(1L, 2L, "user1@example.com");
 
-        Manager mockManager = new Manager(todo.getUser(), todo);
-        List<Manager> managerList = List.of(mockManager);
-
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(List.of(managerResponse));
 
         // when
         List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
 
         // then
         assertEquals(1, managerResponses.size());
-        assertEquals(mockManager.getId(), managerResponses.get(0).getId());
-        assertEquals(mockManager.getUser().getEmail(), managerResponses.get(0).getUser().getEmail());
+        assertEquals(1L, managerResponses.get(0).getId());
+        assertEquals("user1@example.com", managerResponses.get(0).getUser().getEmail());
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    public void 담당자가_없는_일정은_빈_목록을_반환한다() {
+        // given
+        long todoId = 1L;
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(List.of(new ManagerResponse(null, null, null)));
+
+        // when
+        List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
+
+        // then
+        assertTrue(managerResponses.isEmpty());
     }
 
     @Test // 테스트코드 샘플
@@ -174,147 +186,115 @@ class ManagerServiceTest {
     }
 
     @Test
-    public void 매니저를_삭제하는데_user가_없는_경우_예외가_발생한다() {
+    public void 담당자를_한번에_여러명_등록한다() {
         // given
-        Long userId = 1L;
-        Long todoId = 1L;
-        Long managerUserId = 2L;
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", User.fromAuthUser(authUser));
 
-        given(userRepository.findById(userId)).willReturn(Optional.empty());
+        User managerUser1 = new User("b@b.com", "password", UserRole.USER);
+        User managerUser2 = new User("c@c.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(managerUser1, "id", 2L);
+        ReflectionTestUtils.setField(managerUser2, "id", 3L);
 
-        // when & then
-        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.
-                deleteManager(userId, todoId, managerUserId));
-        assertEquals("User not found", exception.getMessage());
+        ManagerBatchSaveRequest request = new ManagerBatchSaveRequest(List.of(2L, 3L, 2L));
+
+        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(userRepository.findAllById(List.of(2L, 3L))).willReturn(List.of(managerUser1, managerUser2));
+        given(managerRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<ManagerSaveResponse> responses = managerService.saveManagers(authUser, todoId, request);
+
+        // then
+        assertEquals(2, responses.size());
+        assertEquals("b@b.com", responses.get(0).getUser().getEmail());
+        assertEquals("c@c.com", responses.get(1).getUser().getEmail());
+        verify(userRepository, never()).findById(any());
     }
 
     @Test
-    public void 매니저를_삭제하는데_todo가_없는_경우_예외가_발생한다() {
+    public void 담당자_일괄_등록_중_없는_유저가_있으면_예외가_발생한다() {
         // given
-        Long userId = 1L;
-        Long todoId = 1L;
-        Long managerUserId = 2L;
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        long todoId = 1L;
+        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", User.fromAuthUser(authUser));
+
+        User managerUser = new User("b@b.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(managerUser, "id", 2L);
 
-        User user = new User("email", "password", UserRole.USER);
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(userRepository.findAllById(List.of(2L, 3L))).willReturn(List.of(managerUser));
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
         // when & then
-        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.
-                deleteManager(userId, todoId, managerUserId));
-        assertEquals("Todo not found", exception.getMessage());
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                managerService.saveManagers(authUser, todoId, new ManagerBatchSaveRequest(List.of(2L, 3L))));
+        assertEquals("등록하려고 하는 담당자 유저가 존재하지 않습니다. [3]", exception.getMessage());
+        verify(managerRepository, never()).saveAll(anyList());
     }
 
     @Test
-    public void 매니저를_삭제하는데_해당_매니저가_존재하지_경우_예외가_발생한다() {
+    public void 매니저를_삭제하는데_todo가_없는_경우_404_예외가_발생한다() {
         // given
-        Long userId = 1L;
-        Long todoId = 1L;
-        Long managerId = 2L;
-
-        User user = new User("email", "password", UserRole.USER);
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-
-        Todo todo = mock(Todo.class);
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(todo.getUser()).willReturn(user);
+        long userId = 1L;
+        long todoId = 1L;
+        long managerId = 2L;
 
-        given(managerRepository.findById(managerId)).willReturn(Optional.empty());
+        given(managerRepository.deleteByIdAndTodoOwner(managerId, todoId, userId)).willReturn(0);
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.empty());
 
         // when & then
-        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+        NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 managerService.deleteManager(userId, todoId, managerId));
-
-        assertEquals("Manager not found", exception.getMessage());
+        assertEquals("Todo not found", exception.getMessage());
     }
 
     @Test
-    public void 매니저를_삭제하는데_해당_일정에_등록된_담당자가_아닌_경우_예외가_발생한다() {
+    public void 매니저를_삭제하는데_일정을_만든_user가_아닌_경우_403_예외가_발생한다() {
         // given
-        Long userId = 1L;
-        Long todoId = 1L;
-        Long managerId = 2L;
+        long userId = 1L;
+        long todoId = 1L;
+        long managerId = 2L;
 
-        User User = new User("email", "password", UserRole.USER);
-        given(userRepository.findById(userId)).willReturn(Optional.of(User));
+        given(managerRepository.deleteByIdAndTodoOwner(managerId, todoId, userId)).willReturn(0);
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(99L));
 
-        Todo todo = mock(Todo.class);
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(todo.getUser()).willReturn(User);
+        // when & then
+        ForbiddenException exception = assertThrows(ForbiddenException.class, () ->
+                managerService.deleteManager(userId, todoId, managerId));
+        assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
+    }
 
-        Manager manager = mock(Manager.class);
-        Todo anotherTodo = new Todo();
-        given(managerRepository.findById(managerId)).willReturn(Optional.of(manager));
-        given(manager.getTodo()).willReturn(anotherTodo);
+    @Test
+    public void 매니저를_삭제하는데_해당_일정에_등록된_담당자가_아닌_경우_404_예외가_발생한다() {
+        // given
+        long userId = 1L;
+        long todoId = 1L;
+        long managerId = 2L;
+
+        given(managerRepository.deleteByIdAndTodoOwner(managerId, todoId, userId)).willReturn(0);
+        given(todoRepository.findOwnerIdById(todoId)).willReturn(Optional.of(userId));
 
         // when & then
-        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+        NotFoundException exception = assertThrows(NotFoundException.class, () ->
                 managerService.deleteManager(userId, todoId, managerId));
-
         assertEquals("해당 일정에 등록된 담당자가 아닙니다.", exception.getMessage());
     }
 
     @Test
     public void 매니저를_성공적으로_삭제한다() {
         // given
-        Long userId = 1L;
-        Long todoId = 1L;
-        Long managerId = 2L;
-
-        User user = new User("email", "password", UserRole.USER);
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-
-        Todo todo = mock(Todo.class);
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(todo.getUser()).willReturn(user);
+        long userId = 1L;
+        long todoId = 1L;
+        long managerId = 2L;
 
-        Manager manager = new Manager(user, todo);
-        given(managerRepository.findById(managerId)).willReturn(Optional.of(manager));
+        given(managerRepository.deleteByIdAndTodoOwner(managerId, todoId, userId)).willReturn(1);
 
         // when
         managerService.deleteManager(userId, todoId, managerId);
 
         // then
-        verify(managerRepository, times(1)).delete(manager);
-    }
-
-//    @Test
-//    public void 매니저를_삭제하는데_일정을_만든_user가_유효하지_경우_예외가_발생한다() {
-//        // given
-//        Long userId = 1L;
-//        Long todoId = 1L;
-//        Long managerUserId = 2L;
-//
-//        User validUser = new User("valid@example.com", "password", UserRole.USER);
-//        User invalidUser = new User("invalid@example.com", "password", UserRole.USER);
-//
-//        Todo todo = new Todo();
-//
-//        given(userRepository.findById(1L)).willReturn(Optional.of(validUser));
-//        given(todoRepository.findById(1L)).willReturn(Optional.of(todo));
-//        todo.setUser(null);
-//        // When & Then
-//        InvalidRequestException thrown = assertThrows(InvalidRequestException.class, () -> {
-//            managerService.deleteManager(userId, todoId, 1L);
-//        });
-//        assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", thrown.getMessage());
-//    }
-
-    @Test
-    public void 매니저를_삭제하는데_일정을_만든_user가_유효하지_경우_예외가_발생한다() {
-        // given
-        Long userId = 1L;
-        Long todoId = 1L;
-        Long managerUserId = 2L;
-
-        User validUser = new User("email", "password", UserRole.USER);
-        Todo todo = new Todo("title", "contents", "Sunny", null);
-        given(userRepository.findById(1L)).willReturn(Optional.of(validUser));
-        given(todoRepository.findById(1L)).willReturn(Optional.of(todo));
-        // When & Then
-        InvalidRequestException thrown = assertThrows(InvalidRequestException.class, () -> {
-            managerService.deleteManager(userId, todoId, managerUserId);
-        });
-        assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", thrown.getMessage());
+        verify(managerRepository, times(1)).deleteByIdAndTodoOwner(managerId, todoId, userId);
+        verifyNoInteractions(todoRepository, userRepository);
     }
 }
@@ -0,0 +1,128 @@
+package org.example.expert.domain.todo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.expert.config.FilterConfig;
+import org.example.expert.config.WebConfig;
+import org.example.expert.domain.todo.controller.TodoController;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoResponseCache;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /todos/{todoId} 의 캐시 적중 응답(바이트 본문, Content-Encoding, Vary, ETag)과 조건부 GET 을 확인합니다.
+ * JWT 검증은 이 테스트의 관심사가 아니므로 JwtFilter 를 등록하는 FilterConfig 와 인증/지표용 WebConfig 는 띄우지 않고,
+ * MockMvc 에도 서블릿 필터를 붙이지 않습니다.
+ */
+@WebMvcTest(controllers = TodoController.class, excludeFilters = @ComponentScan.Filter(
+        type = FilterType.ASSIGNABLE_TYPE, classes = {FilterConfig.class, WebConfig.class}))
+@AutoConfigureMockMvc(addFilters = false)
+class TodoControllerTest {
+
+    private static final long TODO_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private TodoService todoService;
+
+    private TodoResponseCache.Entry cached;
+
+    @BeforeEach
+    void setUp() {
+        // gzip 본이 만들어지도록 gzipMinBytes(1024) 보다 긴 본문을 넣습니다.
+        TodoResponseCache cache = new TodoResponseCache(new ObjectMapper().registerModule(new JavaTimeModule()), 1024 * 1024, 1024);
+        LocalDateTime now = LocalDateTime.of(2024, 10, 1, 12, 0);
+        cached = cache.put(TODO_ID, cache.ticket(TODO_ID),
+                new TodoResponse(TODO_ID, "title", "a".repeat(2000), "Sunny", new UserResponse(1L, "user@example.com"), now, now, 3L));
+        given(todoService.findCachedTodo(TODO_ID)).willReturn(cached);
+    }
+
+    @Test
+    void 캐시_적중이면_gzip_바이트를_그대로_응답한다() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(get("/todos/{todoId}", TODO_ID)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andReturn();
+
+        // then
+        assertArrayEquals(cached.getGzip(), result.getResponse().getContentAsByteArray());
+        verify(todoService, never()).loadAndCacheTodo(anyLong());
+    }
+
+    @ParameterizedTest(name = "Accept-Encoding: {0}")
+    @CsvSource(delimiter = '|', value = {
+            "gzip                   | true",
+            "GZIP;q=0.5, br         | true",
+            "*                      | true",
+            "gzip;q=0               | false",
+            "gzip;q=0, *            | false",
+            "identity               | false",
+            "br, *;q=0              | false",
+            "deflate                | false"
+    })
+    void Accept_Encoding_의_q_값을_따라_gzip_여부를_정한다(String acceptEncoding, boolean gzip) throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(get("/todos/{todoId}", TODO_ID)
+                        .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn();
+
+        // then
+        byte[] body = result.getResponse().getContentAsByteArray();
+        if (gzip) {
+            assertEquals("gzip", result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+            assertArrayEquals(cached.getGzip(), body);
+        } else {
+            assertNull(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+            assertArrayEquals(cached.getJson(), body);
+        }
+    }
+
+    @Test
+    void 캐시_적중이고_If_None_Match_가_같으면_304_를_응답한다() throws Exception {
+        // when & then
+        mockMvc.perform(get("/todos/{todoId}", TODO_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().bytes(new byte[0]));
+        verify(todoService, never()).getTodoVersion(anyLong());
+        verify(todoService, never()).loadAndCacheTodo(anyLong());
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.expert.domain.todo;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryBudgetConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.dto.request.TodoFilterRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCountCache;
+import org.example.expert.domain.todo.service.TodoResponseCache;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.todo.service.TodoWeatherEnrichmentService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.querybudget.MaxQueries;
+import org.example.expert.querybudget.QueryCount;
+import org.example.expert.querybudget.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 일정 조회 서비스 메서드를 실제 JPA/H2 위에서 실행해, 실행되는 SQL 문장 수가 예산 안에 있는지 확인합니다.
+ * fetch join 이 빠지거나 지연 컬렉션을 행마다 건드리는 N+1 회귀가 생기면 @MaxQueries 가 실패합니다.
+ */
+@DataJpaTest
+@Import({TodoService.class, PersistenceConfig.class, QueryBudgetConfig.class})
+class TodoQueryBudgetTest {
+
+    private static final int TODO_COUNT = 15;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @MockBean
+    private WeatherClient weatherClient;
+    @MockBean
+    private TodoCountCache todoCountCache;
+    @MockBean
+    private TodoWeatherEnrichmentService weatherEnrichmentService;
+    @MockBean
+    private TodoSearchIndex todoSearchIndex;
+    @MockBean
+    private TodoResponseCache todoResponseCache;
+
+    private Long todoId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User("budget@example.com", "password", UserRole.USER);
+        entityManager.persist(user);
+        for (int i = 0; i < TODO_COUNT; i++) {
+            Todo todo = new Todo("title-" + i, "contents-" + i, "Sunny", user);
+            entityManager.persist(todo);
+            entityManager.persist(new Comment("comment-" + i, user, todo));
+            todoId = todo.getId();
+        }
+        // 영속성 컨텍스트에 남은 엔티티 없이 테스트 본문을 시작합니다.
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @MaxQueries(value = 4, collections = 0)
+    void 일정_목록과_댓글_담당자_수는_페이지_크기와_상관없이_네_번의_쿼리로_조회한다() {
+        // when
+        Page<TodoResponse> result = todoService.getTodos(1, 10, true, new TodoFilterRequest(null, null, null, "latest"));
+
+        // then (목록 + COUNT + 댓글 수 + 담당자 수)
+        assertEquals(10, result.getContent().size());
+        assertEquals(1L, result.getContent().get(0).getCommentCount());
+    }
+
+    @Test
+    @MaxQueries(value = 1, collections = 0)
+    void 커서_목록은_작성자까지_한_번의_쿼리로_조회한다() {
+        // when
+        TodoCursorResponse result = todoService.getTodosByCursor(null, 10);
+
+        // then
+        assertEquals(10, result.getContent().size());
+    }
+
+    @Test
+    @MaxQueries(value = 1, entities = 2, collections = 0)
+    void 일정_단건은_작성자까지_한_번의_쿼리로_조회한다() {
+        // when
+        TodoResponse result = todoService.getTodo(todoId);
+
+        // then
+        assertEquals("budget@example.com", result.getUser().getEmail());
+    }
+
+    @Test
+    void 지연_컬렉션을_행마다_초기화하면_문장_수와_초기화_횟수가_함께_늘어난다() {
+        // given
+        List<Todo> todos;
+        QueryCount count;
+
+        // when
+        try (QueryCounter.Scope scope = QueryCounter.open(0)) {
+            todos = todoRepository.findFirstPageByCursor(PageRequest.of(0, 10));
+            todos.forEach(todo -> todo.getManagers().size());
+            count = scope.getCount();
+        }
+
+        // then
+        assertEquals(10, todos.size());
+        assertEquals(1 + 10, count.statements());
+        assertEquals(10, count.collectionsInitialized());
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QueryBudgetConfig;
+import org.example.expert.domain.todo.dto.request.TodoFilterRequest;
+import org.example.expert.domain.todo.service.TodoCountCache;
+import org.example.expert.domain.todo.service.TodoResponseCache;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.todo.service.TodoWeatherEnrichmentService;
+import org.example.expert.querybudget.QueryCounter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GET /todos 필터 조합마다 TodoService 가 TodoSpecifications 로 실제 실행하는 SQL(목록 + COUNT)을 기록해 H2 에서 EXPLAIN 하고,
+ * 테이블 전체 스캔 없이 복합 인덱스 범위 스캔을 타는지 확인합니다.
+ * H2 의 ANALYZE 는 열린 트랜잭션을 커밋하므로, 데이터는 테스트 트랜잭션 밖에서 클래스당 한 번 넣고 끝나면 직접 지웁니다.
+ */
+@DataJpaTest
+@Import({TodoService.class, PersistenceConfig.class, QueryBudgetConfig.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TodoQueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TodoService todoService;
+
+    @MockBean
+    private WeatherClient weatherClient;
+    @MockBean
+    private TodoCountCache todoCountCache;
+    @MockBean
+    private TodoWeatherEnrichmentService weatherEnrichmentService;
+    @MockBean
+    private TodoSearchIndex todoSearchIndex;
+    @MockBean
+    private TodoResponseCache todoResponseCache;
+
+    @BeforeAll
+    void seed() {
+        // 빈 테이블이라 우연히 인덱스를 고르는 일이 없도록 작성자 100명, 날씨 4종, 수정일 약 70일(20분 간격)에 걸친 5000건을 넣습니다.
+        // 목록 SQL 은 작성자(users)를 조인하므로 작성자가 한 명뿐이면 users 를 먼저 읽고 FK 인덱스로 todos 를 찾는 계획이 나옵니다.
+        jdbcTemplate.execute("INSERT INTO users (id, email, password, user_role) " +
+                "SELECT X, CONCAT('plan', X, '@example.com'), 'password', 'USER' FROM SYSTEM_RANGE(1, 100)");
+        jdbcTemplate.execute("INSERT INTO todos (id, title, contents, weather, weather_status, version, user_id, created_at, modified_at) " +
+                "SELECT X, 'title', 'contents', " +
+                "CASEWHEN(MOD(X, 4) = 0, 'Sunny', CASEWHEN(MOD(X, 4) = 1, 'Rainy', CASEWHEN(MOD(X, 4) = 2, 'Cloudy', 'Snowy'))), " +
+                "'RESOLVED', 0, MOD(X, 100) + 1, DATEADD(MINUTE, X * 20, TIMESTAMP '2024-07-01 00:00:00'), DATEADD(MINUTE, X * 20, TIMESTAMP '2024-07-01 00:00:00') " +
+                "FROM SYSTEM_RANGE(1, 5000)");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+            "weather                | Sunny |            |            | IDX_TODOS_WEATHER_MODIFIED_AT_ID",
+            "weather + from         | Sunny | 2024-07-02 |            | IDX_TODOS_WEATHER_MODIFIED_AT_ID",
+            "weather + to           | Sunny |            | 2024-07-02 | IDX_TODOS_WEATHER_MODIFIED_AT_ID",
+            "weather + from + to    | Sunny | 2024-07-02 | 2024-07-02 | IDX_TODOS_WEATHER_MODIFIED_AT_ID",
+            "from                   |       | 2024-09-07 |            | IDX_TODOS_MODIFIED_AT_ID",
+            "to                     |       |            | 2024-07-01 | IDX_TODOS_MODIFIED_AT_ID",
+            "from + to              |       | 2024-07-02 | 2024-07-02 | IDX_TODOS_MODIFIED_AT_ID"
+    })
+    void 필터_조합마다_복합_인덱스_범위_스캔을_사용한다(String combination, String weather, LocalDate from, LocalDate to, String expectedIndex) {
+        for (String sort : new String[]{"latest", "oldest"}) {
+            // given
+            List<String> statements;
+            try (QueryCounter.Scope scope = QueryCounter.open(10)) {
+                todoService.getTodos(1, 10, false, new TodoFilterRequest(weather, from, to, sort));
+                statements = scope.getRecordedStatements();
+            }
+
+            // TodoService 가 만드는 조건과 같은 순서의 바인딩 값 (기간은 [from 00:00, to 다음 날 00:00))
+            List<Object> parameters = new ArrayList<>();
+            if (weather != null) {
+                parameters.add(weather);
+            }
+            if (from != null) {
+                parameters.add(from.atStartOfDay());
+            }
+            if (to != null) {
+                parameters.add(to.plusDays(1).atStartOfDay());
+            }
+
+            // then (목록 + COUNT)
+            assertEquals(2, statements.size(), combination + " " + sort + " 의 SQL 이 목록 + COUNT 가 아닙니다.\n" + statements);
+            for (String sql : statements) {
+                // when
+                String plan = explain(sql, parameters);
+
+                // then
+                assertTrue(plan.contains(expectedIndex), combination + " " + sort + " 가 " + expectedIndex + " 를 사용하지 않습니다.\n" + sql + "\n" + plan);
+                assertFalse(plan.contains("TABLESCAN"), combination + " " + sort + " 가 테이블 전체 스캔을 합니다.\n" + sql + "\n" + plan);
+            }
+        }
+    }
+
+    // 조건 값 뒤에 남는 ? 는 페이지 크기/오프셋이므로 10 으로 채웁니다.
+    private String explain(String sql, List<Object> parameters) {
+        long placeholders = sql.chars().filter(c -> c == '?').count();
+        List<Object> arguments = new ArrayList<>(parameters);
+        while (arguments.size() < placeholders) {
+            arguments.add(10);
+        }
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, arguments.toArray()).toUpperCase();
+    }
+}
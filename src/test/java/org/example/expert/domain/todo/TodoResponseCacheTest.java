@@ -0,0 +1,124 @@
+package org.example.expert.domain.todo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoResponseCache;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TodoResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    public void 직렬화한_바이트와_버전을_보관하고_다시_돌려준다() {
+        // given
+        TodoResponseCache cache = new TodoResponseCache(objectMapper, 1024 * 1024, 1024);
+        cache.put(1L, cache.ticket(1L), response(1L, 3L, "contents"));
+
+        // when
+        TodoResponseCache.Entry entry = cache.get(1L);
+
+        // then
+        assertNotNull(entry);
+        assertEquals(3L, entry.getVersion());
+        String json = new String(entry.getJson(), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"title\":\"title-1\""));
+        assertFalse(json.contains("version"), "버전은 본문이 아니라 ETag 로만 내려갑니다.");
+        assertNull(entry.getGzip());
+    }
+
+    @Test
+    public void 큰_응답은_gzip_본도_함께_보관한다() throws IOException {
+        // given
+        TodoResponseCache cache = new TodoResponseCache(objectMapper, 1024 * 1024, 1024);
+
+        // when
+        TodoResponseCache.Entry entry = cache.put(1L, cache.ticket(1L), response(1L, 0L, "반복되는 내용 ".repeat(200)));
+
+        // then
+        assertNotNull(entry.getGzip());
+        assertTrue(entry.getGzip().length < entry.getJson().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(entry.getGzip()))) {
+            assertArrayEquals(entry.getJson(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void 바이트_합계가_상한을_넘으면_가장_오래_쓰이지_않은_항목부터_내보낸다() {
+        // given
+        long entryBytes = sizeOf(response(1L, 0L, "x".repeat(300)));
+        TodoResponseCache cache = new TodoResponseCache(objectMapper, entryBytes * 3, Integer.MAX_VALUE);
+        for (long id = 1; id <= 3; id++) {
+            cache.put(id, cache.ticket(id), response(id, 0L, "x".repeat(300)));
+        }
+        cache.get(1L);
+
+        // when
+        cache.put(4L, cache.ticket(4L), response(4L, 0L, "x".repeat(300)));
+
+        // then
+        assertNotNull(cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals(3, cache.getStats().getEntryCount());
+        assertEquals(1, cache.getStats().getEvictionCount());
+        assertTrue(cache.getStats().getUsedBytes() <= entryBytes * 3);
+    }
+
+    @Test
+    public void 읽는_도중_무효화되면_낡은_값을_캐시에_넣지_않는다() {
+        // given
+        TodoResponseCache cache = new TodoResponseCache(objectMapper, 1024 * 1024, 1024);
+        long ticket = cache.ticket(1L);
+        cache.invalidate(1L);
+
+        // when
+        TodoResponseCache.Entry entry = cache.put(1L, ticket, response(1L, 3L, "stale"));
+
+        // then
+        assertEquals(3L, entry.getVersion());
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    public void 무효화하면_다음_조회는_캐시_미스가_된다() {
+        // given
+        TodoResponseCache cache = new TodoResponseCache(objectMapper, 1024 * 1024, 1024);
+        cache.put(1L, cache.ticket(1L), response(1L, 0L, "contents"));
+        cache.put(2L, cache.ticket(2L), response(2L, 0L, "contents"));
+
+        // when
+        cache.invalidateAll(List.of(1L, 2L));
+
+        // then
+        assertNull(cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals(0L, cache.getStats().getUsedBytes());
+    }
+
+    private long sizeOf(TodoResponse response) {
+        TodoResponseCache probe = new TodoResponseCache(objectMapper, Long.MAX_VALUE, Integer.MAX_VALUE);
+        probe.put(response.getId(), probe.ticket(response.getId()), response);
+        return probe.getStats().getUsedBytes();
+    }
+
+    private TodoResponse response(Long id, Long version, String contents) {
+        LocalDateTime now = LocalDateTime.of(2024, 10, 1, 12, 0);
+        return new TodoResponse(id, "title-" + id, contents, "Sunny", new UserResponse(1L, "user@example.com"), now, now, version);
+    }
+}
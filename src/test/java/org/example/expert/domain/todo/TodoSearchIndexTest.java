@@ -0,0 +1,107 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.domain.todo.dto.response.TodoSearchHit;
+import org.example.expert.domain.todo.dto.response.TodoSearchIndexStatsResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSearchSource;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
+import org.example.expert.domain.todo.service.TodoTokenizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TodoSearchIndexTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    private TodoSearchIndex todoSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        todoSearchIndex = new TodoSearchIndex(todoRepository, 2);
+    }
+
+    @Test
+    public void 한글은_bigram_영문은_단어로_토큰화한다() {
+        // when
+        List<String> tokens = TodoTokenizer.tokenize("주간회의를 Spring 3.3");
+
+        // then
+        assertEquals(List.of("주간", "간회", "회의", "의를", "spring", "3", "3"), tokens);
+    }
+
+    @Test
+    public void 조사가_붙은_한글도_검색되고_제목_일치가_먼저_나온다() {
+        // given
+        todoSearchIndex.index(1L, "장보기", "회의 끝나고 우유 사기");
+        todoSearchIndex.index(2L, "주간 회의", "회의실 예약");
+        todoSearchIndex.index(3L, "운동", "헬스장 가기");
+
+        // when
+        List<TodoSearchHit> hits = todoSearchIndex.search("회의를", 10);
+
+        // then
+        assertEquals(2, hits.size());
+        assertEquals(2L, hits.get(0).getId());
+        assertEquals(1L, hits.get(1).getId());
+    }
+
+    @Test
+    public void 수정과_삭제가_색인에_반영된다() {
+        // given
+        todoSearchIndex.index(1L, "report", "write weekly report");
+        todoSearchIndex.index(2L, "report", "review");
+
+        // when
+        todoSearchIndex.index(1L, "groceries", "milk");
+        todoSearchIndex.remove(2L);
+
+        // then
+        assertTrue(todoSearchIndex.search("report", 10).isEmpty());
+        assertEquals(1L, todoSearchIndex.search("milk", 10).get(0).getId());
+    }
+
+    @Test
+    public void 상위_k개만_돌려준다() {
+        // given
+        for (long id = 1; id <= 20; id++) {
+            todoSearchIndex.index(id, "task " + id, "daily task");
+        }
+
+        // when
+        List<TodoSearchHit> hits = todoSearchIndex.search("task", 5);
+
+        // then
+        assertEquals(5, hits.size());
+    }
+
+    @Test
+    public void DB에서_색인을_재구성하고_메모리_사용량을_보고한다() {
+        // given
+        given(todoRepository.findMaxId()).willReturn(3L);
+        given(todoRepository.findSearchSources(1L, 3L)).willReturn(List.of(
+                new TodoSearchSource(1L, "배포 준비", "릴리즈 노트 작성"),
+                new TodoSearchSource(3L, "deploy", "prepare release notes")
+        ));
+
+        // when
+        todoSearchIndex.rebuild();
+
+        // then
+        assertEquals(1L, todoSearchIndex.search("배포", 10).get(0).getId());
+        assertEquals(3L, todoSearchIndex.search("release", 10).get(0).getId());
+        TodoSearchIndexStatsResponse stats = todoSearchIndex.getStats();
+        assertEquals(2, stats.getDocumentCount());
+        assertTrue(stats.getEstimatedBytes() > 0);
+    }
+}
@@ -1,37 +1,64 @@
 package org.example.expert.domain.todo;
 
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.exception.ForbiddenException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoFilterRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoChildCount;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCountCache;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
 import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.todo.service.TodoWeatherEnrichmentService;
 
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class TodoServiceTest {
@@ -39,6 +66,16 @@ public class TodoServiceTest {
     private TodoRepository todoRepository;
     @Mock
     private WeatherClient weatherClient;
+    @Mock
+    private TodoCountCache todoCountCache;
+    @Mock
+    private TodoWeatherEnrichmentService weatherEnrichmentService;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ManagerRepository managerRepository;
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
     @InjectMocks
     private TodoService todoService;
 
@@ -66,6 +103,24 @@ public class TodoServiceTest {
         assertEquals(weather, result.getWeather());
         assertEquals(user.getId(), result.getId());
         assertEquals(user.getEmail(), result.getUser().getEmail());
+        assertTrue(result.isWeatherResolved());
+    }
+
+    @Test
+    public void 비동기_날씨_모드에서는_날씨_조회없이_todo를_저장한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@example.com", UserRole.USER);
+        TodoSaveRequest todoSaveRequest = new TodoSaveRequest("title", "contents");
+        given(weatherEnrichmentService.isAsyncEnabled()).willReturn(true);
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TodoSaveResponse result = todoService.saveTodo(authUser, todoSaveRequest);
+
+        // then
+        assertNull(result.getWeather());
+        assertFalse(result.isWeatherResolved());
+        verify(weatherClient, never()).getTodayWeather();
     }
 
     @Test
@@ -82,10 +137,10 @@ public class TodoServiceTest {
         );
 
         Page<Todo> todos = new PageImpl<>(todoList);
-        given(todoRepository.findAllByOrderByModifiedAtDesc(any(Pageable.class))).willReturn(todos);
+        given(todoRepository.findAll(any(Specification.class), any(Pageable.class))).willReturn(todos);
 
         // when
-        Page<TodoResponse> result = todoService.getTodos(page, size);
+        Page<TodoResponse> result = todoService.getTodos(page, size, false, noFilter());
 
         // then
         assertNotNull(result);
@@ -96,6 +151,73 @@ public class TodoServiceTest {
         assertEquals("email", result.getContent().get(0).getUser().getEmail());
     }
 
+    @Test
+    public void 할일목록을_댓글_담당자_수와_함께_조회한다() {
+        // given
+        User user = new User("email", "password", UserRole.USER);
+        Todo todo1 = new Todo("Title1", "Content1", "Sunny", user);
+        Todo todo2 = new Todo("Title2", "Content2", "Rainy", user);
+        ReflectionTestUtils.setField(todo1, "id", 1L);
+        ReflectionTestUtils.setField(todo2, "id", 2L);
+
+        given(todoRepository.findAll(any(Specification.class), any(Pageable.class))).willReturn(new PageImpl<>(List.of(todo1, todo2)));
+        given(commentRepository.countByTodoIds(List.of(1L, 2L))).willReturn(List.of(childCount(1L, 3L)));
+        given(managerRepository.countByTodoIds(List.of(1L, 2L))).willReturn(List.of(childCount(1L, 1L), childCount(2L, 2L)));
+
+        // when
+        Page<TodoResponse> result = todoService.getTodos(1, 10, true, noFilter());
+
+        // then
+        assertEquals(3L, result.getContent().get(0).getCommentCount());
+        assertEquals(1L, result.getContent().get(0).getManagerCount());
+        assertEquals(0L, result.getContent().get(1).getCommentCount());
+        assertEquals(2L, result.getContent().get(1).getManagerCount());
+    }
+
+    @Test
+    public void 개수를_요청하지_않으면_집계_쿼리를_실행하지_않는다() {
+        // given
+        User user = new User("email", "password", UserRole.USER);
+        given(todoRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(new Todo("Title1", "Content1", "Sunny", user))));
+
+        // when
+        Page<TodoResponse> result = todoService.getTodos(1, 10, false, noFilter());
+
+        // then
+        assertNull(result.getContent().get(0).getCommentCount());
+        verifyNoInteractions(commentRepository, managerRepository);
+    }
+
+    @Test
+    public void 필터와_정렬이_Specification_과_Pageable_로_전달된다() {
+        // given
+        given(todoRepository.findAll(any(Specification.class), any(Pageable.class))).willReturn(Page.empty());
+        TodoFilterRequest filter = new TodoFilterRequest("Sunny", LocalDate.of(2024, 9, 2), LocalDate.of(2024, 9, 8), "oldest");
+
+        // when
+        todoService.getTodos(1, 10, false, filter);
+
+        // then
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(todoRepository).findAll(any(Specification.class), pageableCaptor.capture());
+        assertEquals(Sort.by(Sort.Direction.ASC, "modifiedAt").and(Sort.by(Sort.Direction.ASC, "id")), pageableCaptor.getValue().getSort());
+    }
+
+    @Test
+    public void 수정일_기간의_from_이_to_보다_늦으면_예외가_발생한다() {
+        // given
+        TodoFilterRequest filter = new TodoFilterRequest(null, LocalDate.of(2024, 9, 8), LocalDate.of(2024, 9, 2), "latest");
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodos(1, 10, false, filter));
+
+        // then
+        assertEquals("from 은 to 보다 늦을 수 없습니다.", exception.getMessage());
+        verifyNoInteractions(todoRepository);
+    }
+
     @Test
     public void todo_단건_조회를_실패한다() {
         // given
@@ -135,4 +257,180 @@ public class TodoServiceTest {
         assertEquals(todoUser.getEmail(), result.getUser().getEmail());
     }
 
+    @Test
+    public void 일정을_수정하면_올라간_버전과_함께_돌려준다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@example.com", UserRole.USER);
+        Todo todo = versionedTodo(authUser.getId(), 3L);
+        given(todoRepository.findByIdWithUser(10L)).willReturn(Optional.of(todo));
+        given(todoRepository.saveAndFlush(todo)).willAnswer(invocation -> {
+            ReflectionTestUtils.setField(todo, "version", 4L);
+            return todo;
+        });
+
+        // when
+        TodoResponse result = todoService.updateTodo(authUser, 10L, 3L, new TodoUpdateRequest("new title", null));
+
+        // then
+        assertEquals("new title", result.getTitle());
+        assertEquals("contents", result.getContents());
+        assertEquals(4L, result.getVersion());
+    }
+
+    @Test
+    public void If_Match_버전이_현재_버전과_다르면_412_예외가_발생한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "test@example.com", UserRole.USER);
+        given(todoRepository.findByIdWithUser(10L)).willReturn(Optional.of(versionedTodo(authUser.getId(), 4L)));
+
+        // when
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> todoService.updateTodo(authUser, 10L, 3L, new TodoUpdateRequest("new title", null)));
+
+        // then
+        assertEquals("일정이 이미 수정되었습니다. 다시 조회한 뒤 수정해 주세요.", exception.getMessage());
+        verify(todoRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    public void 일정을_만든_유저가_아니면_수정할_수_없다() {
+        // given
+        AuthUser authUser = new AuthUser(2L, "other@example.com", UserRole.USER);
+        given(todoRepository.findByIdWithUser(10L)).willReturn(Optional.of(versionedTodo(1L, 3L)));
+
+        // when & then
+        assertThrows(ForbiddenException.class,
+                () -> todoService.updateTodo(authUser, 10L, 3L, new TodoUpdateRequest("new title", null)));
+    }
+
+    @Test
+    public void 조건부_조회용_버전은_버전_컬럼만_조회한다() {
+        // given
+        given(todoRepository.findVersionById(10L)).willReturn(Optional.of(7L));
+
+        // when
+        long version = todoService.getTodoVersion(10L);
+
+        // then
+        assertEquals(7L, version);
+        verify(todoRepository, never()).findByIdWithUser(anyLong());
+    }
+
+    @Test
+    public void 할일목록을_커서로_조회하면_다음_커서를_돌려준다() {
+        // given
+        int size = 1;
+        User user = new User("email", "password", UserRole.USER);
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 10, 1, 12, 0, 0);
+
+        Todo todo1 = new Todo("Title1", "Content1", "Sunny", user);
+        ReflectionTestUtils.setField(todo1, "id", 2L);
+        ReflectionTestUtils.setField(todo1, "modifiedAt", modifiedAt);
+        Todo todo2 = new Todo("Title2", "Content2", "Rainy", user);
+        ReflectionTestUtils.setField(todo2, "id", 1L);
+        ReflectionTestUtils.setField(todo2, "modifiedAt", modifiedAt);
+
+        given(todoRepository.findFirstPageByCursor(any(Pageable.class))).willReturn(List.of(todo1, todo2));
+
+        // when
+        TodoCursorResponse result = todoService.getTodosByCursor("", size);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertEquals("Title1", result.getContent().get(0).getTitle());
+        assertTrue(result.isHasNext());
+        KeysetCursor nextCursor = KeysetCursor.decode(result.getNextCursor());
+        assertEquals(modifiedAt, nextCursor.getTimestamp());
+        assertEquals(2L, nextCursor.getId());
+    }
+
+    @Test
+    public void 커서_다음_페이지를_조회한다() {
+        // given
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 10, 1, 12, 0, 0);
+        String cursor = new KeysetCursor(modifiedAt, 2L).encode();
+
+        User user = new User("email", "password", UserRole.USER);
+        Todo todo = new Todo("Title2", "Content2", "Rainy", user);
+
+        given(todoRepository.findNextPageByCursor(eq(modifiedAt), eq(2L), any(Pageable.class))).willReturn(List.of(todo));
+
+        // when
+        TodoCursorResponse result = todoService.getTodosByCursor(cursor, 10);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    public void 잘못된_커서로_조회하면_실패한다() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                todoService.getTodosByCursor("not-a-cursor", 10));
+
+        // then
+        assertEquals("유효하지 않은 커서입니다.", exception.getMessage());
+    }
+
+    @Test
+    public void 할일목록을_전체건수_없이_Slice로_조회한다() {
+        // given
+        User user = new User("email", "password", UserRole.USER);
+        List<Todo> todoList = List.of(new Todo("Title1", "Content1", "Sunny", user));
+
+        given(todoRepository.findSliceByOrderByModifiedAtDesc(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(todoList, Pageable.ofSize(1), true));
+        given(todoCountCache.getApproximateTotal()).willReturn(42L);
+
+        // when
+        TodoSliceResponse result = todoService.getTodoSlice(1, 1, true);
+
+        // then
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(42L, result.getApproximateTotal());
+    }
+
+    @Test
+    public void 최대_size를_넘는_요청은_상한으로_조회한다() {
+        // given
+        given(todoRepository.findSliceByOrderByModifiedAtDesc(any(Pageable.class)))
+                .willAnswer(invocation -> new SliceImpl<Todo>(List.of(), invocation.getArgument(0), false));
+
+        // when
+        TodoSliceResponse result = todoService.getTodoSlice(1, 1_000_000, false);
+
+        // then
+        assertEquals(100, result.getSize());
+        assertNull(result.getApproximateTotal());
+    }
+
+    private Todo versionedTodo(Long ownerId, Long version) {
+        User owner = new User("owner@example.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(owner, "id", ownerId);
+        Todo todo = new Todo("title", "contents", "Sunny", owner);
+        ReflectionTestUtils.setField(todo, "id", 10L);
+        ReflectionTestUtils.setField(todo, "version", version);
+        return todo;
+    }
+
+    private TodoFilterRequest noFilter() {
+        return new TodoFilterRequest(null, null, null, "latest");
+    }
+
+    private TodoChildCount childCount(Long todoId, Long count) {
+        return new TodoChildCount() {
+            @Override
+            public Long getTodoId() {
+                return todoId;
+            }
+
+            @Override
+            public Long getChildCount() {
+                return count;
+            }
+        };
+    }
 }
@@ -0,0 +1,166 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.client.WeatherCircuitBreaker;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoResponseCache;
+import org.example.expert.domain.todo.service.TodoWeatherEnrichmentService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.MonthDay;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoWeatherEnrichmentServiceTest {
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private WeatherCircuitBreaker circuitBreaker;
+    @Mock
+    private TodoResponseCache responseCache;
+    @Mock
+    private ExecutorService executor;
+
+    private TodoWeatherEnrichmentService enrichmentService;
+
+    @BeforeEach
+    void setUp() {
+        enrichmentService = new TodoWeatherEnrichmentService(
+                todoRepository, weatherClient, circuitBreaker, responseCache, executor, true, 100);
+    }
+
+    @Test
+    public void 같은_날짜의_일정은_한_번만_조회해_일괄로_채운다() {
+        // given
+        given(todoRepository.findByWeatherStatusOrderByIdAsc(eq(WeatherStatus.PENDING), any())).willReturn(List.of(
+                pendingTodo(1L, LocalDateTime.of(2026, 3, 1, 9, 0)),
+                pendingTodo(2L, LocalDateTime.of(2026, 3, 2, 9, 0)),
+                pendingTodo(3L, LocalDateTime.of(2026, 3, 1, 18, 0))));
+        given(circuitBreaker.allowRequest()).willReturn(true);
+        runTasksInline();
+        given(weatherClient.findWeather(MonthDay.of(3, 1))).willReturn(Optional.of("Sunny"));
+        given(weatherClient.findWeather(MonthDay.of(3, 2))).willReturn(Optional.of("Rainy"));
+
+        // when
+        enrichmentService.enrichPendingTodos();
+
+        // then
+        verify(weatherClient, times(1)).findWeather(MonthDay.of(3, 1));
+        verify(weatherClient, times(1)).findWeather(MonthDay.of(3, 2));
+        verify(todoRepository).resolvePendingWeather("Sunny", List.of(1L, 3L));
+        verify(todoRepository).resolvePendingWeather("Rainy", List.of(2L));
+        verify(responseCache).invalidateAll(List.of(1L, 3L));
+        verify(circuitBreaker, times(2)).recordSuccess();
+    }
+
+    @Test
+    public void 예보에_없는_날짜의_일정은_FAILED_로_정리하고_서킷_실패로_세지_않는다() {
+        // given
+        given(todoRepository.findByWeatherStatusOrderByIdAsc(eq(WeatherStatus.PENDING), any())).willReturn(List.of(
+                pendingTodo(1L, LocalDateTime.of(2028, 2, 29, 9, 0))));
+        given(circuitBreaker.allowRequest()).willReturn(true);
+        runTasksInline();
+        given(weatherClient.findWeather(MonthDay.of(2, 29))).willReturn(Optional.empty());
+
+        // when
+        enrichmentService.enrichPendingTodos();
+
+        // then
+        verify(todoRepository).failPendingWeather(List.of(1L));
+        verify(todoRepository, never()).resolvePendingWeather(anyString(), anyList());
+        verify(circuitBreaker).recordSuccess();
+        verify(circuitBreaker, never()).recordFailure();
+    }
+
+    @Test
+    public void 시간이_초과되면_호출을_취소하고_서킷_실패로_기록한다() throws Exception {
+        // given
+        given(todoRepository.findByWeatherStatusOrderByIdAsc(eq(WeatherStatus.PENDING), any())).willReturn(List.of(
+                pendingTodo(1L, LocalDateTime.of(2026, 3, 1, 9, 0))));
+        given(circuitBreaker.allowRequest()).willReturn(true);
+        @SuppressWarnings("unchecked")
+        Future<Object> future = mock(Future.class);
+        given(executor.submit(any(Callable.class))).willReturn(future);
+        given(future.get(100, TimeUnit.MILLISECONDS)).willThrow(new TimeoutException());
+
+        // when
+        enrichmentService.enrichPendingTodos();
+
+        // then
+        verify(future).cancel(true);
+        verify(circuitBreaker).recordFailure();
+        verify(todoRepository, never()).resolvePendingWeather(anyString(), anyList());
+        verify(todoRepository, never()).failPendingWeather(anyList());
+    }
+
+    @Test
+    public void 서킷이_열려_있으면_이번_주기는_호출하지_않는다() {
+        // given
+        given(todoRepository.findByWeatherStatusOrderByIdAsc(eq(WeatherStatus.PENDING), any())).willReturn(List.of(
+                pendingTodo(1L, LocalDateTime.of(2026, 3, 1, 9, 0))));
+        given(circuitBreaker.allowRequest()).willReturn(false);
+
+        // when
+        enrichmentService.enrichPendingTodos();
+
+        // then
+        verifyNoInteractions(executor, weatherClient);
+        verify(todoRepository, never()).resolvePendingWeather(anyString(), anyList());
+    }
+
+    @Test
+    public void 비동기_모드가_꺼져_있으면_아무것도_하지_않는다() {
+        // given
+        enrichmentService = new TodoWeatherEnrichmentService(
+                todoRepository, weatherClient, circuitBreaker, responseCache, executor, false, 100);
+
+        // when
+        enrichmentService.enrichPendingTodos();
+
+        // then
+        verifyNoInteractions(todoRepository, executor, circuitBreaker);
+    }
+
+    private Todo pendingTodo(Long id, LocalDateTime createdAt) {
+        Todo todo = Todo.withPendingWeather("title", "contents", new User("test@example.com", "password", UserRole.USER));
+        ReflectionTestUtils.setField(todo, "id", id);
+        ReflectionTestUtils.setField(todo, "createdAt", createdAt);
+        return todo;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTasksInline() {
+        given(executor.submit(any(Callable.class))).willAnswer(invocation ->
+                CompletableFuture.completedFuture(((Callable<Object>) invocation.getArgument(0)).call()));
+    }
+}
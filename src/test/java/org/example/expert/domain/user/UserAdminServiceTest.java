@@ -1,11 +1,15 @@
 package org.example.expert.domain.user;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserCacheStatsResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -22,6 +26,8 @@ import static org.mockito.Mockito.*;
 public class UserAdminServiceTest {
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -56,4 +62,22 @@ public class UserAdminServiceTest {
             userAdminService.changeUserRole(userId, roleChangeRequest);
         });
     }
+
+    @Test
+    public void getUserCacheStats_캐시가_꺼져_있으면_비활성으로_응답한다() {
+        // given
+        SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+        SessionFactoryOptions options = mock(SessionFactoryOptions.class);
+        given(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).willReturn(sessionFactory);
+        given(sessionFactory.getSessionFactoryOptions()).willReturn(options);
+        given(options.isSecondLevelCacheEnabled()).willReturn(false);
+
+        // when
+        UserCacheStatsResponse response = userAdminService.getUserCacheStats();
+
+        // then
+        assertFalse(response.isEnabled());
+        assertEquals(0.0, response.getEntityHitRatio());
+        verify(sessionFactory, never()).getStatistics();
+    }
 }
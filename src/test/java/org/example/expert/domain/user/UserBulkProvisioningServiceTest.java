@@ -0,0 +1,128 @@
+package org.example.expert.domain.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.user.dto.response.BulkSignupResponse;
+import org.example.expert.domain.user.dto.response.BulkSignupResult;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserBulkProvisioningService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class UserBulkProvisioningServiceTest {
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private EntityManager entityManager;
+
+    private UserBulkProvisioningService userBulkProvisioningService;
+
+    @BeforeEach
+    void setUp() {
+        userBulkProvisioningService = new UserBulkProvisioningService(
+                userRepository,
+                passwordEncoder,
+                transactionTemplate,
+                entityManager,
+                new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator()
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void NDJSON으로_여러_유저를_한번에_가입시킨다() throws Exception {
+        // given
+        String ndjson = """
+                {"email":"a@a.com","password":"Password1","userRole":"USER"}
+                {"email":"b@b.com","password":"Password2","userRole":"ADMIN"}
+                {"email":"a@a.com","password":"Password3","userRole":"USER"}
+                {"email":"exists@a.com","password":"Password4","userRole":"USER"}
+                {"email":"not-an-email","password":"Password5","userRole":"USER"}
+                {broken json
+                """;
+
+        given(userRepository.findExistingEmails(anyList())).willReturn(Set.of("exists@a.com"));
+        given(passwordEncoder.encodeAll(List.of("Password1", "Password2"))).willReturn(List.of("encoded1", "encoded2"));
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any(Consumer.class));
+
+        // when
+        BulkSignupResponse response = userBulkProvisioningService.provision(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertEquals(2, response.getCreated());
+        assertEquals(2, response.getDuplicated());
+        assertEquals(2, response.getInvalid());
+        // 가입된 행은 건수만 남기고, 가입되지 않은 행만 줄 번호 순으로 돌려줍니다.
+        assertEquals(List.of(3L, 4L, 5L, 6L), response.getResults().stream().map(BulkSignupResult::getLine).toList());
+        assertEquals(BulkSignupResult.Status.DUPLICATE, response.getResults().get(0).getStatus());
+        assertFalse(response.isTruncated());
+        verify(userRepository, times(1)).saveAll(anyList());
+        // 저장한 User 가 요청 끝까지 영속성 컨텍스트에 남지 않도록 청크마다 flush 후 clear 합니다.
+        InOrder order = inOrder(userRepository, entityManager);
+        order.verify(userRepository).saveAll(anyList());
+        order.verify(entityManager).flush();
+        order.verify(entityManager).clear();
+    }
+
+    @Test
+    public void 해시_풀이_가득_차면_해당_행을_RETRY_로_돌려주고_저장하지_않는다() throws Exception {
+        // given
+        String ndjson = """
+                {"email":"a@a.com","password":"Password1","userRole":"USER"}
+                {"email":"exists@a.com","password":"Password2","userRole":"USER"}
+                """;
+
+        given(userRepository.findExistingEmails(anyList())).willReturn(Set.of("exists@a.com"));
+        given(passwordEncoder.encodeAll(List.of("Password1")))
+                .willThrow(new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+
+        // when
+        BulkSignupResponse response = userBulkProvisioningService.provision(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertEquals(0, response.getCreated());
+        assertEquals(1, response.getDuplicated());
+        assertEquals(1, response.getRetry());
+        assertEquals(BulkSignupResult.Status.RETRY, response.getResults().get(0).getStatus());
+        verify(userRepository, never()).saveAll(anyList());
+        verifyNoInteractions(transactionTemplate);
+    }
+}
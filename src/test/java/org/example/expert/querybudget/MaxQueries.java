@@ -0,0 +1,28 @@
+package org.example.expert.querybudget;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문에서 실행된 SQL 문장 수가 value 를 넘으면 테스트를 실패시킵니다.
+ * 클래스에 붙이면 모든 테스트에, 메서드에 붙이면 그 테스트에만 적용되며 메서드 쪽이 우선합니다.
+ * QueryBudgetConfig 가 컨텍스트에 있어야 셀 수 있습니다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface MaxQueries {
+
+    // SQL 문장 수 상한
+    int value();
+
+    // 로딩된 엔티티 수 상한 (기본: 제한 없음)
+    int entities() default Integer.MAX_VALUE;
+
+    // 초기화된 지연 컬렉션 수 상한 (기본: 제한 없음)
+    int collections() default Integer.MAX_VALUE;
+}
@@ -0,0 +1,58 @@
+package org.example.expert.querybudget;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * @MaxQueries 를 처리합니다. @BeforeEach 의 데이터 준비는 세지 않도록 테스트 메서드 본문만 범위로 감쌉니다.
+ * JPA 쓰기는 flush 될 때 실행되므로, 쓰기까지 예산에 넣으려면 본문에서 flush 해야 합니다.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+    private static final int MAX_REPORTED_STATEMENTS = 50;
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), QueryCounter.open(MAX_REPORTED_STATEMENTS));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCounter.Scope scope = context.getStore(NAMESPACE).remove(context.getUniqueId(), QueryCounter.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+        // 테스트가 이미 실패했다면 원래 실패 원인을 가리지 않습니다.
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+
+        MaxQueries budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxQueries.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), MaxQueries.class))
+                .orElseThrow();
+        QueryCount count = scope.getCount();
+
+        List<String> violations = new ArrayList<>();
+        if (count.statements() > budget.value()) {
+            violations.add("statements=" + count.statements() + " (budget=" + budget.value() + ")");
+        }
+        if (count.entitiesLoaded() > budget.entities()) {
+            violations.add("entitiesLoaded=" + count.entitiesLoaded() + " (budget=" + budget.entities() + ")");
+        }
+        if (count.collectionsInitialized() > budget.collections()) {
+            violations.add("collectionsInitialized=" + count.collectionsInitialized() + " (budget=" + budget.collections() + ")");
+        }
+        if (!violations.isEmpty()) {
+            fail("SQL 예산 초과: " + String.join(", ", violations) + "\n" + String.join("\n", scope.getRecordedStatements()));
+        }
+    }
+}